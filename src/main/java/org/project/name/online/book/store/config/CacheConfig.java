@@ -0,0 +1,34 @@
+package org.project.name.online.book.store.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String BOOKS_CACHE = "books";
+    public static final String BOOK_SEARCHES_CACHE = "book-searches";
+    public static final String CATEGORIES_CACHE = "categories";
+    public static final String USER_IDENTITIES_CACHE = "user-identities";
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> bookSearchesCacheCustomizer(
+            @Value("${book.search.cache.spec}") String spec
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(
+                BOOK_SEARCHES_CACHE, Caffeine.from(spec).build());
+    }
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> userIdentitiesCacheCustomizer(
+            @Value("${user.identity.cache.spec}") String spec
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(
+                USER_IDENTITIES_CACHE, Caffeine.from(spec).build());
+    }
+}
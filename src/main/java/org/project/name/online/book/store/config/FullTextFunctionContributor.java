@@ -0,0 +1,24 @@
+package org.project.name.online.book.store.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+    public static final String MATCH_AGAINST = "match_against";
+    public static final String REGEXP_LIKE_IGNORE_CASE = "regexp_like_ignore_case";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match (?1, ?2) against (?3 in natural language mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+        functionContributions.getFunctionRegistry().registerPattern(
+                REGEXP_LIKE_IGNORE_CASE,
+                "regexp_like(?1, ?2, 'i')",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.INTEGER));
+    }
+}
@@ -0,0 +1,26 @@
+package org.project.name.online.book.store.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@RequiredArgsConstructor
+public class PatternAsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+    private final String pattern;
+    private final long timeout;
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        if (servletRequest != null
+                && request instanceof AsyncWebRequest asyncWebRequest
+                && pattern.equals(servletRequest.getAttribute(
+                        HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))) {
+            asyncWebRequest.setTimeout(timeout);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.project.name.online.book.store.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    private static final String BOOKS_EXPORT_PATTERN = "/books/export";
+
+    @Value("${book.export.timeout}")
+    private long exportTimeout;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(
+                new PatternAsyncTimeoutInterceptor(BOOKS_EXPORT_PATTERN, exportTimeout));
+    }
+}
@@ -1,18 +1,35 @@
 package org.project.name.online.book.store.controller;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.io.InputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.project.name.online.book.store.dto.book.BookDto;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.dto.book.BookImportReportDto;
 import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.dto.book.BookSearchResultDto;
+import org.project.name.online.book.store.dto.book.BookSuggestionDto;
 import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
 import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
+import org.project.name.online.book.store.service.book.BookImportService;
 import org.project.name.online.book.store.service.book.BookService;
+import org.project.name.online.book.store.service.count.TotalCountService;
+import org.project.name.online.book.store.service.search.BookSuggestService;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,8 +39,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Books API", description = "Endpoints for managing books")
 @RequiredArgsConstructor
@@ -32,18 +51,68 @@ import org.springframework.web.bind.annotation.RestController;
 @Validated
 public class BookController {
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final TotalCountService totalCountService;
+    private final BookSuggestService bookSuggestService;
 
     @GetMapping
-    @Operation(summary = "Receive all books", description = "This endpoint receives all books")
-    public List<BookDto> getAll(Pageable pageable) {
-        return bookService.findAll(pageable);
+    @Operation(summary = "Receive all books", description = "This endpoint receives all books. "
+            + "The X-Total-Count header carries a periodically refreshed total. "
+            + "Pass 'after' (empty for the first page) to page by the cursor "
+            + "returned in the X-Next-Cursor header. Pass 'fields' (comma separated) "
+            + "to receive only the listed book fields")
+    public ResponseEntity<MappingJacksonValue> getAll(
+            Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields
+    ) {
+        BookFields bookFields = BookFields.of(fields);
+        HttpHeaders headers = ResponseHeaders.totalCount(totalCountService.getBooksCount());
+        if (after == null) {
+            List<BookDto> books = bookService.findAll(pageable, bookFields);
+            return ResponseEntity.ok().headers(headers).body(select(books, bookFields));
+        }
+        KeysetCursor cursor = KeysetCursor.of(after, pageable.getSort());
+        KeysetSlice<BookDto> slice
+                = bookService.findAll(cursor, pageable.getPageSize(), bookFields);
+        headers.addAll(slice.headers());
+        return ResponseEntity.ok().headers(headers).body(select(slice.content(), bookFields));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all books",
+            description = "This endpoint streams every book as NDJSON, one book per line")
+    public ResponseEntity<StreamingResponseBody> exportBooks() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(bookService::exportAll);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest titles and authors",
+            description = "This endpoint returns the titles and authors starting with "
+                    + "the given prefix, most common first")
+    public List<BookSuggestionDto> suggest(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(BookSuggestService.MAX_LIMIT)
+            int limit
+    ) {
+        return bookSuggestService.suggest(prefix, limit);
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Receive a book by id",
-            description = "This endpoint receives a book by id")
-    public BookDto getBookById(@PathVariable @Min(1) Long id) {
-        return bookService.getBookById(id);
+            description = "This endpoint receives a book by id. "
+                    + "Pass 'fields' (comma separated) to receive only the listed book fields")
+    public MappingJacksonValue getBookById(
+            @PathVariable @Min(1) Long id,
+            @RequestParam(required = false) String fields
+    ) {
+        BookFields bookFields = BookFields.of(fields);
+        BookDto book = bookFields.isAll()
+                ? bookService.getBookById(id)
+                : bookService.getBookById(id, bookFields);
+        return select(book, bookFields);
     }
 
     @PostMapping
@@ -54,6 +123,24 @@ public class BookController {
         return bookService.save(bookDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Import books from NDJSON",
+            description = "This endpoint imports books in chunks, one book per line, "
+                    + "and reports every rejected line")
+    public BookImportReportDto importBooksFromNdjson(InputStream inputStream) {
+        return bookImportService.importNdjson(inputStream);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @Operation(summary = "Import books from CSV",
+            description = "This endpoint imports books in chunks from CSV with a header row "
+                    + "(categoryIds are separated by ';') and reports every rejected line")
+    public BookImportReportDto importBooksFromCsv(InputStream inputStream) {
+        return bookImportService.importCsv(inputStream);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @Operation(summary = "Update a book by id", description = "This endpoint updates a book by id")
@@ -64,9 +151,40 @@ public class BookController {
 
     @GetMapping("/search")
     @Operation(summary = "Search a book by particular parameters",
-            description = "This endpoint searches a book by given parameters")
-    public List<BookDto> searchBook(BookSearchParameters searchParameters, Pageable pageable) {
-        return bookService.searchBook(searchParameters, pageable);
+            description = "This endpoint searches a book by given parameters. "
+                    + "Pass 'q' for a relevance-ordered full-text search or 'keywords' "
+                    + "to match every word of the title, author or description in id order. "
+                    + "Pass 'after' (empty for the first page) to page by the cursor "
+                    + "returned in the X-Next-Cursor header. Pass 'fields' (comma separated) "
+                    + "to receive only the listed book fields")
+    public ResponseEntity<MappingJacksonValue> searchBook(
+            BookSearchParameters searchParameters,
+            Pageable pageable,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields
+    ) {
+        BookFields bookFields = BookFields.of(fields);
+        if (after == null) {
+            List<BookDto> books = bookService.searchBook(searchParameters, pageable, bookFields);
+            return ResponseEntity.ok(select(books, bookFields));
+        }
+        KeysetCursor cursor = KeysetCursor.of(after, pageable.getSort());
+        KeysetSlice<BookDto> slice = bookService.searchBook(
+                searchParameters, cursor, pageable.getPageSize(), bookFields);
+        return ResponseEntity.ok()
+                .headers(slice.headers())
+                .body(select(slice.content(), bookFields));
+    }
+
+    @GetMapping(value = "/search", params = "facets=true")
+    @Operation(summary = "Search a book with facet counts",
+            description = "This endpoint searches a book by given parameters and returns "
+                    + "the number of matching books per author, category and price range")
+    public BookSearchResultDto searchBookWithFacets(
+            BookSearchParameters searchParameters,
+            Pageable pageable
+    ) {
+        return bookService.searchBookWithFacets(searchParameters, pageable);
     }
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
@@ -76,4 +194,12 @@ public class BookController {
     public void deleteBook(@PathVariable @Min(1) Long id) {
         bookService.deleteById(id);
     }
+
+    private MappingJacksonValue select(Object books, BookFields fields) {
+        MappingJacksonValue value = new MappingJacksonValue(books);
+        value.setFilters(new SimpleFilterProvider().addFilter(BookFields.FILTER, fields.isAll()
+                ? SimpleBeanPropertyFilter.serializeAll()
+                : SimpleBeanPropertyFilter.filterOutAllExcept(fields.names())));
+        return value;
+    }
 }
@@ -8,10 +8,11 @@ import lombok.RequiredArgsConstructor;
 import org.project.name.online.book.store.dto.cart.item.CreateCartItemRequestDto;
 import org.project.name.online.book.store.dto.cart.item.UpdateCartItemRequestDto;
 import org.project.name.online.book.store.dto.shopping.cart.ShoppingCartDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.project.name.online.book.store.service.shopping.cart.ShoppingCartService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,19 +38,20 @@ public class CartController {
     @Operation(summary = "Add a book to a shopping cart",
             description = "This endpoint adds a book to a shopping cart")
     public void addBookToCart(
-            Authentication authentication,
+            @AuthenticationPrincipal UserIdentity identity,
             @RequestBody @Valid CreateCartItemRequestDto cartItemDto
     ) {
-        String email = authentication.getName();
-        shoppingCartService.save(email, cartItemDto);
+        shoppingCartService.save(identity, cartItemDto);
     }
 
     @GetMapping
     @Operation(summary = "Receive a shopping cart with cart-items",
             description = "This endpoint receive a shopping cart with cart-items")
-    public ShoppingCartDto getShoppingCart(Authentication authentication, Pageable pageable) {
-        String email = authentication.getName();
-        return shoppingCartService.getCartByUserId(email, pageable);
+    public ShoppingCartDto getShoppingCart(
+            @AuthenticationPrincipal UserIdentity identity,
+            Pageable pageable
+    ) {
+        return shoppingCartService.getCartByUserId(identity, pageable);
     }
 
     @PutMapping("/cart-items/{cartItemId}")
@@ -57,12 +59,11 @@ public class CartController {
     @Operation(summary = "Update a quantity of cart-item by id",
             description = "This endpoint updates a quantity of a cart-item by id")
     public void updateCartItemById(
-            Authentication authentication,
+            @AuthenticationPrincipal UserIdentity identity,
             @PathVariable @Min(1) Long cartItemId,
             @RequestBody @Valid UpdateCartItemRequestDto cartItemDto
     ) {
-        String email = authentication.getName();
-        shoppingCartService.update(email, cartItemId, cartItemDto);
+        shoppingCartService.update(identity, cartItemId, cartItemDto);
     }
 
     @DeleteMapping("/cart-items/{cartItemId}")
@@ -70,10 +71,9 @@ public class CartController {
     @Operation(summary = "Delete a cart-item by id",
             description = "This endpoint deletes a cart-item by id")
     public void deleteCartItemById(
-            Authentication authentication,
+            @AuthenticationPrincipal UserIdentity identity,
             @PathVariable @Min(1) Long cartItemId
     ) {
-        String email = authentication.getName();
-        shoppingCartService.delete(email, cartItemId);
+        shoppingCartService.delete(identity, cartItemId);
     }
 }
@@ -9,10 +9,14 @@ import lombok.RequiredArgsConstructor;
 import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
 import org.project.name.online.book.store.dto.category.CategoryDto;
 import org.project.name.online.book.store.dto.category.CreateCategoryRequestDto;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.project.name.online.book.store.service.book.BookService;
 import org.project.name.online.book.store.service.category.CategoryService;
+import org.project.name.online.book.store.service.count.TotalCountService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class CategoryController {
     private final CategoryService categoryService;
     private final BookService bookService;
+    private final TotalCountService totalCountService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -45,9 +51,12 @@ public class CategoryController {
 
     @GetMapping
     @Operation(summary = "Receive all categories",
-            description = "This endpoint receives all categories")
-    public List<CategoryDto> getAll(Pageable pageable) {
-        return categoryService.findAll(pageable);
+            description = "This endpoint receives all categories. "
+                    + "The X-Total-Count header carries a periodically refreshed total")
+    public ResponseEntity<List<CategoryDto>> getAll(Pageable pageable) {
+        return ResponseEntity.ok()
+                .headers(ResponseHeaders.totalCount(totalCountService.getCategoriesCount()))
+                .body(categoryService.findAll(pageable));
     }
 
     @GetMapping("/{id}")
@@ -79,10 +88,19 @@ public class CategoryController {
 
     @GetMapping("/{id}/books")
     @Operation(summary = "Receive all books by category id",
-            description = "This endpoint receives all books by category id")
-    public List<BookDtoWithoutCategoryIds> getBooksByCategoryId(
+            description = "This endpoint receives all books by category id. "
+                    + "Pass 'after' (empty for the first page) to page by the cursor "
+                    + "returned in the X-Next-Cursor header")
+    public ResponseEntity<List<BookDtoWithoutCategoryIds>> getBooksByCategoryId(
             @PathVariable @Min(1) Long id,
-            Pageable pageable) {
-        return bookService.findAllByCategoryId(id, pageable);
+            Pageable pageable,
+            @RequestParam(required = false) String after) {
+        if (after == null) {
+            return ResponseEntity.ok(bookService.findAllByCategoryId(id, pageable));
+        }
+        KeysetCursor cursor = KeysetCursor.of(after, pageable.getSort());
+        KeysetSlice<BookDtoWithoutCategoryIds> slice
+                = bookService.findAllByCategoryId(id, cursor, pageable.getPageSize());
+        return ResponseEntity.ok().headers(slice.headers()).body(slice.content());
     }
 }
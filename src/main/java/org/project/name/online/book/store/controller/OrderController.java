@@ -6,16 +6,20 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.project.name.online.book.store.dto.order.CreateOrderRequestDto;
 import org.project.name.online.book.store.dto.order.OrderDto;
 import org.project.name.online.book.store.dto.order.OrderDtoWithStatus;
 import org.project.name.online.book.store.dto.order.UpdateOrderRequestDto;
 import org.project.name.online.book.store.dto.order.item.OrderItemDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.project.name.online.book.store.service.order.OrderService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -39,19 +44,28 @@ public class OrderController {
     @Operation(summary = "Place an order",
             description = "This endpoint places an order by user defined shipping address")
     public void placeOrder(
-            Authentication authentication,
+            @AuthenticationPrincipal UserIdentity identity,
             @RequestBody @Valid CreateOrderRequestDto orderDto
     ) {
-        String email = authentication.getName();
-        orderService.save(email, orderDto);
+        orderService.save(identity, orderDto);
     }
 
     @GetMapping
     @Operation(summary = "Receive order history",
-            description = "This endpoint receives a user's order history")
-    public List<OrderDto> getAllOrders(Authentication authentication, Pageable pageable) {
-        String email = authentication.getName();
-        return orderService.getAll(email, pageable);
+            description = "This endpoint receives a user's order history. "
+                    + "Pass 'after' (empty for the first page) to page by the cursor "
+                    + "returned in the X-Next-Cursor header")
+    public ResponseEntity<List<OrderDto>> getAllOrders(
+            @AuthenticationPrincipal UserIdentity identity,
+            Pageable pageable,
+            @RequestParam(required = false) String after
+    ) {
+        if (after == null) {
+            return ResponseEntity.ok(orderService.getAll(identity, pageable));
+        }
+        KeysetCursor cursor = KeysetCursor.of(after, pageable.getSort());
+        KeysetSlice<OrderDto> slice = orderService.getAll(identity, cursor, pageable.getPageSize());
+        return ResponseEntity.ok().headers(slice.headers()).body(slice.content());
     }
 
     @PutMapping("/{id}")
@@ -69,23 +83,21 @@ public class OrderController {
     @Operation(summary = "Receive all items of an order",
             description = "This endpoint receives all items of an order by order id")
     public List<OrderItemDto> getAllOrderItems(
-            Authentication authentication,
+            @AuthenticationPrincipal UserIdentity identity,
             @PathVariable @Min(1) Long orderId,
             Pageable pageable
     ) {
-        String email = authentication.getName();
-        return orderService.getAllByOrderId(email, orderId, pageable);
+        return orderService.getAllByOrderId(identity, orderId, pageable);
     }
 
     @GetMapping("/{orderId}/items/{itemId}")
     @Operation(summary = "Receive an order-item by an order",
             description = "This endpoint receives an order-item by an order id")
     public OrderItemDto getItemByIdWithinOrder(
-            Authentication authentication,
+            @AuthenticationPrincipal UserIdentity identity,
             @PathVariable @Min(1) Long orderId,
             @PathVariable @Min(1) Long itemId
     ) {
-        String email = authentication.getName();
-        return orderService.getById(email, orderId, itemId);
+        return orderService.getById(identity, orderId, itemId);
     }
 }
@@ -0,0 +1,17 @@
+package org.project.name.online.book.store.controller;
+
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+
+final class ResponseHeaders {
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private ResponseHeaders() {
+    }
+
+    static HttpHeaders totalCount(Optional<Long> count) {
+        HttpHeaders headers = new HttpHeaders();
+        count.ifPresent(total -> headers.set(TOTAL_COUNT_HEADER, String.valueOf(total)));
+        return headers;
+    }
+}
@@ -1,9 +1,11 @@
 package org.project.name.online.book.store.dto.book;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import java.util.List;
 import lombok.Data;
 
 @Data
+@JsonFilter(BookFields.FILTER)
 public class BookDto {
     private Long id;
     private String title;
@@ -0,0 +1,15 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.math.BigDecimal;
+
+public record BookExportRow(
+        Long id,
+        String title,
+        String author,
+        String isbn,
+        BigDecimal price,
+        String description,
+        String coverImage,
+        String categoryName
+) {
+}
@@ -0,0 +1,13 @@
+package org.project.name.online.book.store.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacetDto {
+    private String value;
+    private Long count;
+}
@@ -0,0 +1,15 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacetsDto {
+    private List<BookFacetDto> authors;
+    private List<BookFacetDto> categories;
+    private List<BookFacetDto> prices;
+}
@@ -0,0 +1,50 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.project.name.online.book.store.exception.FieldSelectionException;
+
+public record BookFields(Set<String> names) {
+    public static final String FILTER = "bookFields";
+    public static final String CATEGORY_IDS = "categoryIds";
+    private static final Set<String> ALL_NAMES = Set.of("id", "title", "author", "isbn",
+            "price", "description", "coverImage", CATEGORY_IDS);
+    public static final BookFields ALL = new BookFields(ALL_NAMES);
+
+    public static BookFields of(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        String unknownNames = names.stream()
+                .filter(name -> !ALL_NAMES.contains(name))
+                .collect(Collectors.joining(", "));
+        if (!unknownNames.isEmpty()) {
+            throw new FieldSelectionException("Unknown book fields: " + unknownNames
+                    + ". Use any of: " + ALL_NAMES);
+        }
+        return names.size() == ALL_NAMES.size() ? ALL : new BookFields(Set.copyOf(names));
+    }
+
+    public boolean isAll() {
+        return names.size() == ALL_NAMES.size();
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    public BookFields with(String name) {
+        if (includes(name) || !ALL_NAMES.contains(name)) {
+            return this;
+        }
+        Set<String> extended = new LinkedHashSet<>(names);
+        extended.add(name);
+        return extended.size() == ALL_NAMES.size() ? ALL : new BookFields(Set.copyOf(extended));
+    }
+}
@@ -0,0 +1,14 @@
+package org.project.name.online.book.store.dto.book;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportErrorDto {
+    private Long line;
+    private String isbn;
+    private String message;
+}
@@ -0,0 +1,12 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class BookImportReportDto {
+    private long imported;
+    private long failed;
+    private List<BookImportErrorDto> errors = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class BookKeywords {
+    public static final String LETTER_OR_DIGIT = "\\p{L}\\p{N}";
+    private static final Pattern SEPARATOR = Pattern.compile("[^" + LETTER_OR_DIGIT + "]+");
+
+    private BookKeywords() {
+    }
+
+    public static List<String> of(String... values) {
+        return Arrays.stream(values)
+                .filter(value -> value != null)
+                .flatMap(value -> SEPARATOR.splitAsStream(value.toLowerCase(Locale.ROOT)))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,86 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import org.project.name.online.book.store.exception.SearchParameterException;
+
+public record BookSearchCriteria(
+        List<String> authors,
+        BigDecimal priceFrom,
+        BigDecimal priceTo,
+        List<Long> categoryIds,
+        String q,
+        List<String> keywords
+) {
+    private static final int PRICE_BOUNDS = 2;
+
+    public static BookSearchCriteria of(BookSearchParameters searchParameters) {
+        List<String> authors = values(searchParameters.authors()).stream()
+                .distinct()
+                .sorted()
+                .toList();
+        List<String> prices = values(searchParameters.prices());
+        BigDecimal priceFrom = null;
+        BigDecimal priceTo = null;
+        if (!prices.isEmpty()) {
+            if (prices.size() != PRICE_BOUNDS) {
+                throw new SearchParameterException(
+                        "Price range must have exactly two bounds: " + prices);
+            }
+            priceFrom = toPrice(prices.get(0));
+            priceTo = toPrice(prices.get(1));
+            if (priceFrom.compareTo(priceTo) > 0) {
+                throw new SearchParameterException("Price range is reversed: " + prices);
+            }
+        }
+        List<Long> categoryIds = values(searchParameters.categories()).stream()
+                .map(BookSearchCriteria::toCategoryId)
+                .distinct()
+                .sorted()
+                .toList();
+        String q = searchParameters.q() == null
+                ? ""
+                : searchParameters.q().trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        List<String> keywords = searchParameters.keywords() == null
+                ? List.of()
+                : BookKeywords.of(searchParameters.keywords());
+        return new BookSearchCriteria(authors, priceFrom, priceTo, categoryIds, q, keywords);
+    }
+
+    public boolean hasPriceRange() {
+        return priceFrom != null;
+    }
+
+    public boolean hasOnlyKeywords() {
+        return !keywords.isEmpty() && authors.isEmpty() && !hasPriceRange()
+                && categoryIds.isEmpty() && q.isEmpty();
+    }
+
+    private static List<String> values(String[] params) {
+        if (params == null) {
+            return List.of();
+        }
+        return Arrays.stream(params)
+                .map(String::trim)
+                .filter(param -> !param.isEmpty())
+                .toList();
+    }
+
+    private static BigDecimal toPrice(String price) {
+        try {
+            return new BigDecimal(price).stripTrailingZeros();
+        } catch (NumberFormatException e) {
+            throw new SearchParameterException("Price must be a number: " + price);
+        }
+    }
+
+    private static Long toCategoryId(String categoryId) {
+        try {
+            return Long.valueOf(categoryId);
+        } catch (NumberFormatException e) {
+            throw new SearchParameterException("Category id must be a number: " + categoryId);
+        }
+    }
+}
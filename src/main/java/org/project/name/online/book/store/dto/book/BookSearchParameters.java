@@ -1,4 +1,10 @@
 package org.project.name.online.book.store.dto.book;
 
-public record BookSearchParameters(String[] authors, String[] prices) {
+public record BookSearchParameters(
+        String[] authors,
+        String[] prices,
+        String[] categories,
+        String q,
+        String keywords
+) {
 }
@@ -0,0 +1,14 @@
+package org.project.name.online.book.store.dto.book;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSearchResultDto {
+    private List<BookDto> books;
+    private BookFacetsDto facets;
+}
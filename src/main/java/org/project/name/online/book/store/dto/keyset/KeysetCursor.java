@@ -0,0 +1,80 @@
+package org.project.name.online.book.store.dto.keyset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import org.project.name.online.book.store.exception.CursorException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+public record KeysetCursor(String property, Sort.Direction direction, Long id, String value) {
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+    private static final int PARTS = 4;
+
+    public static KeysetCursor of(String after, Sort sort) {
+        Sort.Order order = sort.stream()
+                .findFirst()
+                .orElse(Sort.Order.asc(ID));
+        if (after.isBlank()) {
+            return new KeysetCursor(order.getProperty(), order.getDirection(), null, null);
+        }
+        KeysetCursor cursor = decode(after);
+        if (!cursor.property().equals(order.getProperty())
+                || cursor.direction() != order.getDirection()) {
+            throw new CursorException("The cursor doesn't match the requested sort");
+        }
+        return cursor;
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    public void checkProperty(Set<String> properties) {
+        if (!properties.contains(property)) {
+            throw new CursorException("Cursor pagination isn't supported by property: "
+                    + property + ". Use one of: " + properties);
+        }
+    }
+
+    public Pageable toPageable(int size) {
+        Sort sort = Sort.by(direction, property);
+        if (!ID.equals(property)) {
+            sort = sort.and(Sort.by(direction, ID));
+        }
+        return PageRequest.of(0, size, sort);
+    }
+
+    public KeysetCursor next(Object last) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(last);
+        Object lastId = wrapper.getPropertyValue(ID);
+        Object lastValue = wrapper.getPropertyValue(property);
+        if (lastId == null || lastValue == null) {
+            throw new CursorException("Cannot build a cursor from an incomplete row");
+        }
+        return new KeysetCursor(property, direction, (Long) lastId, String.valueOf(lastValue));
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, property, direction.name(), id.toString(), value);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KeysetCursor decode(String after) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, PARTS);
+            if (parts.length != PARTS) {
+                throw new CursorException("The cursor is malformed: " + after);
+            }
+            return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]),
+                    Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new CursorException("The cursor is malformed: " + after);
+        }
+    }
+}
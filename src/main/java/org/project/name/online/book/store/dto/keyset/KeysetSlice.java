@@ -0,0 +1,23 @@
+package org.project.name.online.book.store.dto.keyset;
+
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+
+public record KeysetSlice<T>(List<T> content, String nextCursor) {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static <T> KeysetSlice<T> of(List<T> content, KeysetCursor cursor, int size) {
+        if (content.size() < size) {
+            return new KeysetSlice<>(content, null);
+        }
+        return new KeysetSlice<>(content, cursor.next(content.get(content.size() - 1)).encode());
+    }
+
+    public HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.set(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return headers;
+    }
+}
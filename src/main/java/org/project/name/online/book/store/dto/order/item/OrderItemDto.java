@@ -1,8 +1,12 @@
 package org.project.name.online.book.store.dto.order.item;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderItemDto {
     private Long id;
     private Long bookId;
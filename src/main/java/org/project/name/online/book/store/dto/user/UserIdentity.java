@@ -0,0 +1,33 @@
+package org.project.name.online.book.store.dto.user;
+
+import java.security.Principal;
+import java.util.List;
+import org.project.name.online.book.store.exception.EntityNotFoundException;
+import org.project.name.online.book.store.model.Role;
+
+public record UserIdentity(
+        Long userId,
+        String email,
+        Long shoppingCartId,
+        List<Role.RoleName> roles
+) implements Principal {
+    public UserIdentity(Long userId, String email, Long shoppingCartId) {
+        this(userId, email, shoppingCartId, List.of());
+    }
+
+    public UserIdentity withRoles(List<Role.RoleName> roles) {
+        return new UserIdentity(userId, email, shoppingCartId, roles);
+    }
+
+    public Long requireShoppingCartId() {
+        if (shoppingCartId == null) {
+            throw new EntityNotFoundException("There is no shopping cart by user id: " + userId);
+        }
+        return shoppingCartId;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,7 @@
+package org.project.name.online.book.store.exception;
+
+public class CursorException extends RuntimeException {
+    public CursorException(String message) {
+        super(message);
+    }
+}
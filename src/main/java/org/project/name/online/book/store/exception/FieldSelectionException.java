@@ -0,0 +1,7 @@
+package org.project.name.online.book.store.exception;
+
+public class FieldSelectionException extends RuntimeException {
+    public FieldSelectionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.project.name.online.book.store.exception;
+
+public class SearchParameterException extends RuntimeException {
+    public SearchParameterException(String message) {
+        super(message);
+    }
+}
@@ -11,6 +11,7 @@ import org.mapstruct.MappingTarget;
 import org.project.name.online.book.store.config.MapperConfig;
 import org.project.name.online.book.store.dto.book.BookDto;
 import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookExportRow;
 import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
 import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
 import org.project.name.online.book.store.model.Book;
@@ -20,6 +21,9 @@ import org.project.name.online.book.store.model.Category;
 public interface BookMapper {
     BookDto toDto(Book book);
 
+    @Mapping(ignore = true, target = "categoryIds")
+    BookDto toDto(BookExportRow row);
+
     Book toModel(CreateBookRequestDto bookDto, List<Category> categories);
 
     @Mapping(ignore = true, target = "categories")
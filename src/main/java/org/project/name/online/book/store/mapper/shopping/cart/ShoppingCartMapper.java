@@ -6,6 +6,7 @@ import org.mapstruct.Mapping;
 import org.project.name.online.book.store.config.MapperConfig;
 import org.project.name.online.book.store.dto.cart.item.CartItemDto;
 import org.project.name.online.book.store.dto.shopping.cart.ShoppingCartDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.project.name.online.book.store.model.ShoppingCart;
 import org.project.name.online.book.store.model.User;
 
@@ -18,4 +19,9 @@ public interface ShoppingCartMapper {
     @Mapping(target = "userId", source = "shoppingCart.user.id")
     @Mapping(target = "cartItems", source = "dtoList")
     ShoppingCartDto toDto(ShoppingCart shoppingCart, List<CartItemDto> dtoList);
+
+    @Mapping(target = "id", source = "identity.shoppingCartId")
+    @Mapping(target = "userId", source = "identity.userId")
+    @Mapping(target = "cartItems", source = "dtoList")
+    ShoppingCartDto toDto(UserIdentity identity, List<CartItemDto> dtoList);
 }
@@ -2,6 +2,7 @@ package org.project.name.online.book.store.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -19,12 +20,14 @@ import java.util.Set;
 import lombok.Data;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.project.name.online.book.store.service.user.impl.UserIdentityEvictionListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Data
 @Entity
+@EntityListeners(UserIdentityEvictionListener.class)
 @NamedEntityGraph(name = "User.roles",
         attributeNodes = @NamedAttributeNode("roles"))
 @SQLDelete(sql = "UPDATE users SET is_deleted = true WHERE id = ?")
@@ -0,0 +1,65 @@
+package org.project.name.online.book.store.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.exception.CursorException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KeysetSpecificationBuilder {
+    private static final String ID = "id";
+
+    public <T> Specification<T> build(KeysetCursor cursor) {
+        if (cursor.isFirst()) {
+            return Specification.where(null);
+        }
+        return (root, query, criteriaBuilder) -> {
+            Predicate idBeyond = beyond(criteriaBuilder, root.get(ID), cursor.id(),
+                    cursor.direction());
+            if (ID.equals(cursor.property())) {
+                return idBeyond;
+            }
+            Path<Comparable> key = root.get(cursor.property());
+            Comparable value = parse(cursor.value(), key.getJavaType());
+            return criteriaBuilder.or(
+                    beyond(criteriaBuilder, key, value, cursor.direction()),
+                    criteriaBuilder.and(criteriaBuilder.equal(key, value), idBeyond));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate beyond(
+            CriteriaBuilder criteriaBuilder,
+            Expression<? extends Comparable> key,
+            Comparable value,
+            Sort.Direction direction
+    ) {
+        return direction.isAscending()
+                ? criteriaBuilder.greaterThan(key, value)
+                : criteriaBuilder.lessThan(key, value);
+    }
+
+    private Comparable parse(String value, Class<?> type) {
+        try {
+            if (BigDecimal.class.equals(type)) {
+                return new BigDecimal(value);
+            }
+            if (Long.class.equals(type)) {
+                return Long.valueOf(value);
+            }
+            if (LocalDateTime.class.equals(type)) {
+                return LocalDateTime.parse(value);
+            }
+            return value;
+        } catch (RuntimeException e) {
+            throw new CursorException("The cursor value is malformed: " + value);
+        }
+    }
+}
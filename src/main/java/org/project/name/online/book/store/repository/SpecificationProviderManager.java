@@ -2,4 +2,6 @@ package org.project.name.online.book.store.repository;
 
 public interface SpecificationProviderManager<T> {
     SpecificationProvider<T> getSpecificationProvider(String key);
+
+    <P extends SpecificationProvider<T>> P getSpecificationProvider(String key, Class<P> type);
 }
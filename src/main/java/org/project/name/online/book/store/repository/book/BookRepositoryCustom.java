@@ -0,0 +1,32 @@
+package org.project.name.online.book.store.repository.book;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFacetsDto;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.model.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface BookRepositoryCustom {
+    List<Long> findIds(Specification<Book> specification, Pageable pageable);
+
+    List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId, Pageable pageable);
+
+    List<BookDtoWithoutCategoryIds> findAllByCategoryId(
+            Long categoryId,
+            Specification<Book> specification,
+            Pageable pageable
+    );
+
+    void insertAll(List<Book> books);
+
+    Stream<BookExportRow> streamAll(BookFields fields);
+
+    List<BookExportRow> findRowsByIdIn(Collection<Long> ids, BookFields fields);
+
+    BookFacetsDto countFacets(Specification<Book> specification);
+}
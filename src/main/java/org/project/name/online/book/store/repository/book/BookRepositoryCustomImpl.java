@@ -0,0 +1,302 @@
+package org.project.name.online.book.store.repository.book;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFacetDto;
+import org.project.name.online.book.store.dto.book.BookFacetsDto;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.Category;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class BookRepositoryCustomImpl implements BookRepositoryCustom {
+    private static final String ID = "id";
+    private static final int STREAM_ROW_BY_ROW = Integer.MIN_VALUE;
+    private static final String INSERT_BOOK = "INSERT INTO books "
+            + "(title, author, isbn, price, description, cover_image, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, false)";
+    private static final String INSERT_BOOK_CATEGORY
+            = "INSERT INTO books_categories (book_id, category_id) VALUES (?, ?)";
+    private static final List<BigDecimal> PRICE_BUCKET_BOUNDS = List.of(
+            BigDecimal.valueOf(10), BigDecimal.valueOf(25),
+            BigDecimal.valueOf(50), BigDecimal.valueOf(100));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<Book> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Book> root = query.from(Book.class);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get(ID));
+        query.orderBy(getOrders(pageable.getSort(), query.getOrderList(), root, criteriaBuilder));
+        return page(entityManager.createQuery(query), pageable).getResultList();
+    }
+
+    @Override
+    public List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long categoryId, Pageable pageable) {
+        return findAllByCategoryId(categoryId, Specification.where(null), pageable);
+    }
+
+    @Override
+    public List<BookDtoWithoutCategoryIds> findAllByCategoryId(
+            Long categoryId,
+            Specification<Book> specification,
+            Pageable pageable
+    ) {
+        if (categoryId == null) {
+            return Collections.emptyList();
+        }
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookDtoWithoutCategoryIds> query
+                = criteriaBuilder.createQuery(BookDtoWithoutCategoryIds.class);
+        Root<Book> root = query.from(Book.class);
+        query.select(criteriaBuilder.construct(BookDtoWithoutCategoryIds.class,
+                root.get(ID),
+                root.get("title"),
+                root.get("author"),
+                root.get("isbn"),
+                root.get("price").as(Double.class),
+                root.get("description"),
+                root.get("coverImage")));
+        Predicate hasCategory = hasCategory(categoryId, root, query, criteriaBuilder);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        query.where(predicate == null
+                ? hasCategory
+                : criteriaBuilder.and(hasCategory, predicate));
+        query.orderBy(getOrders(pageable.getSort(), query.getOrderList(), root, criteriaBuilder));
+        return page(entityManager.createQuery(query), pageable).getResultList();
+    }
+
+    @Override
+    public void insertAll(List<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            insertBooks(connection, books);
+            insertBookCategories(connection, books);
+        });
+    }
+
+    @Override
+    public Stream<BookExportRow> streamAll(BookFields fields) {
+        return entityManager.createQuery(selectRows(null, fields))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_ROW_BY_ROW)
+                .getResultStream();
+    }
+
+    @Override
+    public List<BookExportRow> findRowsByIdIn(Collection<Long> ids, BookFields fields) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return entityManager.createQuery(selectRows(ids, fields)).getResultList();
+    }
+
+    @Override
+    public BookFacetsDto countFacets(Specification<Book> specification) {
+        List<Tuple> authors = countBy(specification, root -> root.<String>get("author"));
+        List<Tuple> categories = countBy(specification,
+                root -> root.join("categories").<String>get("name"));
+        return new BookFacetsDto(toFacets(authors), toFacets(categories),
+                toFacets(countByPriceBucket(specification)));
+    }
+
+    private CriteriaQuery<BookExportRow> selectRows(Collection<Long> ids, BookFields fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookExportRow> query = criteriaBuilder.createQuery(BookExportRow.class);
+        Root<Book> root = query.from(Book.class);
+        Expression<String> categoryName = fields.includes(BookFields.CATEGORY_IDS)
+                ? root.join("categories", JoinType.LEFT).<String>get("name")
+                : criteriaBuilder.nullLiteral(String.class);
+        query.select(criteriaBuilder.construct(BookExportRow.class,
+                root.get(ID),
+                column(root, "title", String.class, fields, criteriaBuilder),
+                column(root, "author", String.class, fields, criteriaBuilder),
+                column(root, "isbn", String.class, fields, criteriaBuilder),
+                column(root, "price", BigDecimal.class, fields, criteriaBuilder),
+                column(root, "description", String.class, fields, criteriaBuilder),
+                column(root, "coverImage", String.class, fields, criteriaBuilder),
+                categoryName));
+        if (ids != null) {
+            query.where(root.get(ID).in(ids));
+        }
+        return query.orderBy(criteriaBuilder.asc(root.get(ID)));
+    }
+
+    private <T> Expression<T> column(
+            Root<Book> root,
+            String name,
+            Class<T> type,
+            BookFields fields,
+            CriteriaBuilder criteriaBuilder
+    ) {
+        return fields.includes(name) ? root.<T>get(name) : criteriaBuilder.nullLiteral(type);
+    }
+
+    private <T> List<Tuple> countBy(
+            Specification<Book> specification,
+            Function<Root<Book>, Expression<T>> facet
+    ) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Expression<T> value = facet.apply(root);
+        Expression<Long> count = criteriaBuilder.countDistinct(root.get(ID));
+        query.multiselect(value, count)
+                .groupBy(value)
+                .orderBy(criteriaBuilder.desc(count), criteriaBuilder.asc(value));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<Tuple> countByPriceBucket(Specification<Book> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Book> root = query.from(Book.class);
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Expression<BigDecimal> price = root.get("price");
+        Expression<String> bucket = priceBucket(price, criteriaBuilder);
+        query.multiselect(bucket, criteriaBuilder.countDistinct(root.get(ID)))
+                .groupBy(bucket)
+                .orderBy(criteriaBuilder.asc(criteriaBuilder.min(price)));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<BookFacetDto> toFacets(List<Tuple> counts) {
+        return counts.stream()
+                .map(tuple -> new BookFacetDto(tuple.get(0, String.class),
+                        tuple.get(1, Long.class)))
+                .toList();
+    }
+
+    private Expression<String> priceBucket(
+            Expression<BigDecimal> price,
+            CriteriaBuilder criteriaBuilder
+    ) {
+        CriteriaBuilder.Case<String> bucket = criteriaBuilder.selectCase();
+        BigDecimal from = BigDecimal.ZERO;
+        for (BigDecimal to : PRICE_BUCKET_BOUNDS) {
+            bucket = bucket.when(criteriaBuilder.lessThan(price, to), from + "-" + to);
+            from = to;
+        }
+        return bucket.otherwise(from + "-");
+    }
+
+    private void insertBooks(Connection connection, List<Book> books) throws SQLException {
+        try (PreparedStatement statement
+                     = connection.prepareStatement(INSERT_BOOK, Statement.RETURN_GENERATED_KEYS)) {
+            for (Book book : books) {
+                statement.setString(1, book.getTitle());
+                statement.setString(2, book.getAuthor());
+                statement.setString(3, book.getIsbn());
+                statement.setBigDecimal(4, book.getPrice());
+                statement.setString(5, book.getDescription());
+                statement.setString(6, book.getCoverImage());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                for (Book book : books) {
+                    if (!keys.next()) {
+                        throw new SQLException("Missing generated id for isbn: " + book.getIsbn());
+                    }
+                    book.setId(keys.getLong(1));
+                }
+            }
+        }
+    }
+
+    private void insertBookCategories(Connection connection, List<Book> books)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_BOOK_CATEGORY)) {
+            for (Book book : books) {
+                for (Category category : book.getCategories()) {
+                    statement.setLong(1, book.getId());
+                    statement.setLong(2, category.getId());
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private Predicate hasCategory(
+            Long categoryId,
+            Root<Book> root,
+            CriteriaQuery<?> query,
+            CriteriaBuilder criteriaBuilder
+    ) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Book> book = subquery.correlate(root);
+        Join<Book, Category> category = book.join("categories");
+        subquery.select(category.get(ID))
+                .where(criteriaBuilder.equal(category.get(ID), categoryId));
+        return criteriaBuilder.exists(subquery);
+    }
+
+    private List<Order> getOrders(
+            Sort sort,
+            List<Order> defaultOrders,
+            Root<Book> root,
+            CriteriaBuilder criteriaBuilder
+    ) {
+        List<Order> orders = new ArrayList<>(sort.isSorted()
+                ? QueryUtils.toOrders(sort, root, criteriaBuilder)
+                : defaultOrders);
+        if (sort.getOrderFor(ID) == null) {
+            orders.add(criteriaBuilder.asc(root.get(ID)));
+        }
+        return orders;
+    }
+
+    private <T> TypedQuery<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+}
@@ -1,31 +1,59 @@
 package org.project.name.online.book.store.repository.book;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.book.BookSearchCriteria;
 import org.project.name.online.book.store.dto.book.BookSearchParameters;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.repository.SpecificationBuilder;
 import org.project.name.online.book.store.repository.SpecificationProviderManager;
+import org.project.name.online.book.store.repository.book.spec.CategorySpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.PriceSpecificationProvider;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
 public class BookSpecificationBuilder implements SpecificationBuilder<Book> {
+    private static final int COMPILED_SPECIFICATIONS_SIZE = 1000;
+    private final Cache<BookSearchCriteria, Specification<Book>> compiledSpecifications
+            = Caffeine.newBuilder().maximumSize(COMPILED_SPECIFICATIONS_SIZE).build();
     private final SpecificationProviderManager<Book> bookSpecificationProviderManager;
 
     @Override
     public Specification<Book> build(BookSearchParameters searchParameters) {
+        return compiledSpecifications.get(BookSearchCriteria.of(searchParameters), this::compile);
+    }
+
+    private Specification<Book> compile(BookSearchCriteria criteria) {
         Specification<Book> specification = Specification.where(null);
-        if (searchParameters.authors() != null && searchParameters.authors().length > 0) {
+        if (!criteria.authors().isEmpty()) {
+            specification = specification.and(getSpecification("author",
+                    criteria.authors().toArray(String[]::new)));
+        }
+        if (criteria.hasPriceRange()) {
             specification = specification.and(bookSpecificationProviderManager
-                    .getSpecificationProvider("author")
-                    .getSpecification(searchParameters.authors()));
+                    .getSpecificationProvider("price", PriceSpecificationProvider.class)
+                    .getSpecification(criteria.priceFrom(), criteria.priceTo()));
         }
-        if (searchParameters.prices() != null && searchParameters.prices().length > 0) {
+        if (!criteria.categoryIds().isEmpty()) {
             specification = specification.and(bookSpecificationProviderManager
-                    .getSpecificationProvider("price")
-                    .getSpecification(searchParameters.prices()));
+                    .getSpecificationProvider("category", CategorySpecificationProvider.class)
+                    .getSpecification(criteria.categoryIds()));
+        }
+        if (!criteria.q().isEmpty()) {
+            specification = specification.and(getSpecification("q", criteria.q()));
+        }
+        if (!criteria.keywords().isEmpty()) {
+            specification = specification.and(getSpecification("keywords",
+                    criteria.keywords().toArray(String[]::new)));
         }
         return specification;
     }
+
+    private Specification<Book> getSpecification(String key, String... params) {
+        return bookSpecificationProviderManager.getSpecificationProvider(key)
+                .getSpecification(params);
+    }
 }
@@ -1,24 +1,47 @@
 package org.project.name.online.book.store.repository.book;
 
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.project.name.online.book.store.exception.SpecificationProviderException;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.repository.SpecificationProvider;
 import org.project.name.online.book.store.repository.SpecificationProviderManager;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
 @Component
 public class BookSpecificationProviderManager implements SpecificationProviderManager<Book> {
-    private final List<SpecificationProvider<Book>> bookSpecificationProviders;
+    private final Map<String, SpecificationProvider<Book>> bookSpecificationProviders;
+
+    public BookSpecificationProviderManager(
+            List<SpecificationProvider<Book>> bookSpecificationProviders
+    ) {
+        this.bookSpecificationProviders = bookSpecificationProviders.stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        SpecificationProvider::getKey, Function.identity()));
+    }
 
     @Override
     public SpecificationProvider<Book> getSpecificationProvider(String key) {
-        return bookSpecificationProviders.stream()
-                .filter(provider -> provider.getKey().equals(key))
-                .findFirst()
-                .orElseThrow(() -> new SpecificationProviderException(
-                        "Cannot find correct specification provider for key " + key));
+        SpecificationProvider<Book> provider = bookSpecificationProviders.get(key);
+        if (provider == null) {
+            throw new SpecificationProviderException(
+                    "Cannot find correct specification provider for key " + key);
+        }
+        return provider;
+    }
+
+    @Override
+    public <P extends SpecificationProvider<Book>> P getSpecificationProvider(
+            String key,
+            Class<P> type
+    ) {
+        SpecificationProvider<Book> provider = getSpecificationProvider(key);
+        if (!type.isInstance(provider)) {
+            throw new SpecificationProviderException("The specification provider for key "
+                    + key + " is not a " + type.getSimpleName());
+        }
+        return type.cast(provider);
     }
 }
@@ -1,6 +1,8 @@
 package org.project.name.online.book.store.repository.book.spec;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.repository.SpecificationProvider;
 import org.springframework.data.jpa.domain.Specification;
@@ -15,7 +17,7 @@ public class AuthorSpecificationProvider implements SpecificationProvider<Book>
 
     @Override
     public Specification<Book> getSpecification(String[] params) {
-        return (root, query, criteriaBuilder) -> root.get("author")
-                .in(Arrays.stream(params).toArray());
+        Set<String> authors = new LinkedHashSet<>(Arrays.asList(params));
+        return (root, query, criteriaBuilder) -> root.get("author").in(authors);
     }
 }
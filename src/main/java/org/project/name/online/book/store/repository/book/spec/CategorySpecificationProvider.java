@@ -0,0 +1,39 @@
+package org.project.name.online.book.store.repository.book.spec;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import java.util.Arrays;
+import java.util.List;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.Category;
+import org.project.name.online.book.store.repository.SpecificationProvider;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategorySpecificationProvider implements SpecificationProvider<Book> {
+    @Override
+    public String getKey() {
+        return "category";
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        return getSpecification(Arrays.stream(params)
+                .map(String::trim)
+                .map(Long::valueOf)
+                .toList());
+    }
+
+    public Specification<Book> getSpecification(List<Long> categoryIds) {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Book> book = subquery.correlate(root);
+            Join<Book, Category> category = book.join("categories");
+            subquery.select(category.get("id"))
+                    .where(category.get("id").in(categoryIds));
+            return criteriaBuilder.exists(subquery);
+        };
+    }
+}
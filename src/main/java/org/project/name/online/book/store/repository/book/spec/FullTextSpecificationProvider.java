@@ -0,0 +1,28 @@
+package org.project.name.online.book.store.repository.book.spec;
+
+import jakarta.persistence.criteria.Expression;
+import org.project.name.online.book.store.config.FullTextFunctionContributor;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.SpecificationProvider;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FullTextSpecificationProvider implements SpecificationProvider<Book> {
+    @Override
+    public String getKey() {
+        return "q";
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        String text = String.join(" ", params);
+        return (root, query, criteriaBuilder) -> {
+            Expression<Double> relevance = criteriaBuilder.function(
+                    FullTextFunctionContributor.MATCH_AGAINST, Double.class,
+                    root.get("title"), root.get("description"), criteriaBuilder.literal(text));
+            query.orderBy(criteriaBuilder.desc(relevance));
+            return criteriaBuilder.greaterThan(relevance, 0.0);
+        };
+    }
+}
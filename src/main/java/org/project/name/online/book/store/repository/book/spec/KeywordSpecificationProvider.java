@@ -0,0 +1,48 @@
+package org.project.name.online.book.store.repository.book.spec;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.List;
+import org.project.name.online.book.store.config.FullTextFunctionContributor;
+import org.project.name.online.book.store.dto.book.BookKeywords;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.SpecificationProvider;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KeywordSpecificationProvider implements SpecificationProvider<Book> {
+    private static final String NOT_A_WORD_CHARACTER = "[^" + BookKeywords.LETTER_OR_DIGIT + "]";
+    private static final List<String> FIELDS = List.of("title", "author", "description");
+
+    @Override
+    public String getKey() {
+        return "keywords";
+    }
+
+    @Override
+    public Specification<Book> getSpecification(String[] params) {
+        List<String> patterns = Arrays.stream(params)
+                .map(keyword -> "(^|" + NOT_A_WORD_CHARACTER + ")" + keyword
+                        + "(" + NOT_A_WORD_CHARACTER + "|$)")
+                .toList();
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(patterns.stream()
+                .map(pattern -> containsWord(root, criteriaBuilder, pattern))
+                .toArray(Predicate[]::new));
+    }
+
+    private Predicate containsWord(Root<Book> root, CriteriaBuilder criteriaBuilder,
+                                   String pattern) {
+        return criteriaBuilder.or(FIELDS.stream()
+                .map(field -> {
+                    Expression<Integer> matches = criteriaBuilder.function(
+                            FullTextFunctionContributor.REGEXP_LIKE_IGNORE_CASE, Integer.class,
+                            root.get(field), criteriaBuilder.literal(pattern));
+                    return criteriaBuilder.equal(matches, 1);
+                })
+                .toArray(Predicate[]::new));
+    }
+}
@@ -1,6 +1,6 @@
 package org.project.name.online.book.store.repository.book.spec;
 
-import jakarta.persistence.criteria.Predicate;
+import java.math.BigDecimal;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.repository.SpecificationProvider;
 import org.springframework.data.jpa.domain.Specification;
@@ -18,13 +18,12 @@ public class PriceSpecificationProvider implements SpecificationProvider<Book> {
 
     @Override
     public Specification<Book> getSpecification(String[] params) {
-        return (root, query, criteriaBuilder) -> {
-            Double priceFrom = Double.parseDouble(params[PRICE_FROM_INDEX]);
-            Double priceTo = Double.parseDouble(params[PRICE_TO_INDEX]);
-            Predicate priceGt = criteriaBuilder.greaterThanOrEqualTo(root.get("price"), priceFrom);
-            Predicate priceLt = criteriaBuilder.lessThanOrEqualTo(root.get("price"), priceTo);
-            Predicate pricePredicate = criteriaBuilder.and(priceGt, priceLt);
-            return query.where(pricePredicate).getRestriction();
-        };
+        return getSpecification(new BigDecimal(params[PRICE_FROM_INDEX].trim()),
+                new BigDecimal(params[PRICE_TO_INDEX].trim()));
+    }
+
+    public Specification<Book> getSpecification(BigDecimal priceFrom, BigDecimal priceTo) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.between(root.<BigDecimal>get("price"), priceFrom, priceTo);
     }
 }
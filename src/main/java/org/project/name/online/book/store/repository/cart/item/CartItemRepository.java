@@ -1,12 +1,45 @@
 package org.project.name.online.book.store.repository.cart.item;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.project.name.online.book.store.dto.cart.item.CartItemDto;
 import org.project.name.online.book.store.model.CartItem;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+    @EntityGraph(value = "CartItem.book")
     List<CartItem> findAllByShoppingCartId(Long shoppingCartId);
 
-    List<CartItem> findAllByShoppingCartId(Long shoppingCartId, Pageable pageable);
+    @Query("SELECT new org.project.name.online.book.store.dto.cart.item.CartItemDto("
+            + "ci.id, b.id, b.title, ci.quantity) "
+            + "FROM CartItem ci JOIN ci.book b WHERE ci.shoppingCart.id = :shoppingCartId")
+    List<CartItemDto> findAllDtoByShoppingCartId(Long shoppingCartId, Pageable pageable);
+
+    boolean existsByIdAndShoppingCartId(Long id, Long shoppingCartId);
+
+    @Modifying
+    @Query(value = "INSERT INTO cart_items (shopping_cart_id, book_id, quantity, is_deleted) "
+            + "SELECT :shoppingCartId, b.id, :quantity, false FROM books b "
+            + "WHERE b.id = :bookId AND b.is_deleted = false "
+            + "ON DUPLICATE KEY UPDATE cart_items.quantity = IF(cart_items.is_deleted, "
+            + ":quantity, cart_items.quantity + :quantity), cart_items.is_deleted = false",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart_items"))
+    int upsert(Long shoppingCartId, Long bookId, int quantity);
+
+    @Modifying
+    @Query("UPDATE CartItem ci SET ci.quantity = :quantity WHERE ci.id = :id "
+            + "AND ci.shoppingCart.id = :shoppingCartId AND ci.isDeleted = false")
+    int updateQuantityByIdAndShoppingCartId(Long id, Long shoppingCartId, int quantity);
+
+    @Modifying
+    @Query("UPDATE CartItem ci SET ci.isDeleted = true WHERE ci.id = :id "
+            + "AND ci.shoppingCart.id = :shoppingCartId AND ci.isDeleted = false")
+    int deleteByIdAndShoppingCartId(Long id, Long shoppingCartId);
 }
@@ -5,7 +5,7 @@ import org.project.name.online.book.store.model.Order;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
     List<Order> findAllByUserId(Long userId);
 
     List<Order> findAllByUserId(Long userId, Pageable pageable);
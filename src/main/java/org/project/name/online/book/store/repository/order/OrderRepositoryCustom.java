@@ -0,0 +1,14 @@
+package org.project.name.online.book.store.repository.order;
+
+import java.util.List;
+import org.project.name.online.book.store.model.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface OrderRepositoryCustom {
+    List<Order> findAllByUserId(
+            Long userId,
+            Specification<Order> specification,
+            Pageable pageable
+    );
+}
@@ -1,12 +1,30 @@
 package org.project.name.online.book.store.repository.order.item;
 
 import java.util.List;
+import java.util.Optional;
+import org.project.name.online.book.store.dto.order.item.OrderItemDto;
 import org.project.name.online.book.store.model.OrderItem;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findAllByOrderId(Long orderId);
 
     List<OrderItem> findAllByOrderId(Long orderId, Pageable pageable);
+
+    @Query("SELECT new org.project.name.online.book.store.dto.order.item.OrderItemDto("
+            + "oi.id, oi.book.id, oi.quantity) "
+            + "FROM OrderItem oi WHERE oi.order.id = :orderId ORDER BY oi.id")
+    List<OrderItemDto> findAllDtoByOrderId(Long orderId);
+
+    @Query("SELECT new org.project.name.online.book.store.dto.order.item.OrderItemDto("
+            + "oi.id, oi.book.id, oi.quantity) "
+            + "FROM OrderItem oi WHERE oi.order.id = :orderId")
+    List<OrderItemDto> findAllDtoByOrderId(Long orderId, Pageable pageable);
+
+    @Query("SELECT new org.project.name.online.book.store.dto.order.item.OrderItemDto("
+            + "oi.id, oi.book.id, oi.quantity) "
+            + "FROM OrderItem oi WHERE oi.id = :id AND oi.order.id = :orderId")
+    Optional<OrderItemDto> findDtoByIdAndOrderId(Long id, Long orderId);
 }
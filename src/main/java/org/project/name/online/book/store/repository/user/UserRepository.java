@@ -1,11 +1,24 @@
 package org.project.name.online.book.store.repository.user;
 
+import java.util.List;
 import java.util.Optional;
+import org.project.name.online.book.store.dto.user.UserIdentity;
+import org.project.name.online.book.store.model.Role;
 import org.project.name.online.book.store.model.User;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     @EntityGraph(value = "User.roles")
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT new org.project.name.online.book.store.dto.user.UserIdentity("
+            + "u.id, u.email, sc.id) "
+            + "FROM User u LEFT JOIN ShoppingCart sc ON sc.user = u AND sc.isDeleted = false "
+            + "WHERE u.email = :email")
+    Optional<UserIdentity> findIdentityByEmail(String email);
+
+    @Query("SELECT r.roleName FROM User u JOIN u.roles r WHERE u.id = :userId")
+    List<Role.RoleName> findRoleNamesById(Long userId);
 }
@@ -5,12 +5,14 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.user.UserIdentity;
+import org.project.name.online.book.store.service.user.UserIdentityService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,7 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final UserIdentityService userIdentityService;
 
     @Override
     protected void doFilterInternal(
@@ -30,9 +32,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = getToken(request);
         if (token != null && jwtUtil.isValidToken(token)) {
             String username = jwtUtil.getUserName(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            UserIdentity identity = userIdentityService.getIdentity(username);
+            List<SimpleGrantedAuthority> authorities = identity.roles().stream()
+                    .map(role -> new SimpleGrantedAuthority(role.name()))
+                    .toList();
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    userDetails, null, userDetails.getAuthorities()
+                    identity, null, authorities
             );
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
@@ -0,0 +1,10 @@
+package org.project.name.online.book.store.service.book;
+
+import java.io.InputStream;
+import org.project.name.online.book.store.dto.book.BookImportReportDto;
+
+public interface BookImportService {
+    BookImportReportDto importNdjson(InputStream inputStream);
+
+    BookImportReportDto importCsv(InputStream inputStream);
+}
@@ -1,11 +1,16 @@
 package org.project.name.online.book.store.service.book;
 
+import java.io.OutputStream;
 import java.util.List;
 import org.project.name.online.book.store.dto.book.BookDto;
 import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookFields;
 import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.dto.book.BookSearchResultDto;
 import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
 import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.springframework.data.domain.Pageable;
 
 public interface BookService {
@@ -13,13 +18,41 @@ public interface BookService {
 
     BookDto getBookById(Long id);
 
-    List<BookDto> findAll(Pageable pageable);
+    BookDto getBookById(Long id, BookFields fields);
+
+    List<BookDto> findAll(Pageable pageable, BookFields fields);
+
+    KeysetSlice<BookDto> findAll(KeysetCursor cursor, int size, BookFields fields);
 
     BookDto updateBookById(Long id, UpdateBookRequestDto bookDto);
 
-    List<BookDto> searchBook(BookSearchParameters searchParameters, Pageable pageable);
+    List<BookDto> searchBook(
+            BookSearchParameters searchParameters,
+            Pageable pageable,
+            BookFields fields
+    );
+
+    KeysetSlice<BookDto> searchBook(
+            BookSearchParameters searchParameters,
+            KeysetCursor cursor,
+            int size,
+            BookFields fields
+    );
+
+    BookSearchResultDto searchBookWithFacets(
+            BookSearchParameters searchParameters,
+            Pageable pageable
+    );
 
     List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long id, Pageable pageable);
 
+    KeysetSlice<BookDtoWithoutCategoryIds> findAllByCategoryId(
+            Long id,
+            KeysetCursor cursor,
+            int size
+    );
+
     void deleteById(Long id);
+
+    void exportAll(OutputStream outputStream);
 }
@@ -0,0 +1,261 @@
+package org.project.name.online.book.store.service.book.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.config.CacheConfig;
+import org.project.name.online.book.store.dto.book.BookImportErrorDto;
+import org.project.name.online.book.store.dto.book.BookImportReportDto;
+import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
+import org.project.name.online.book.store.mapper.book.BookMapper;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.Category;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.service.book.BookImportService;
+import org.project.name.online.book.store.service.search.BookIndexService;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Service
+public class BookImportServiceImpl implements BookImportService {
+    private static final String CATEGORY_SEPARATOR = ";";
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+    private final BookMapper bookMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BookIndexService bookIndexService;
+    private final BookSuggestService bookSuggestService;
+    private final CacheManager cacheManager;
+
+    @Value("${book.import.chunk-size}")
+    private int chunkSize;
+
+    @Override
+    public BookImportReportDto importNdjson(InputStream inputStream) {
+        AtomicLong lineNumber = new AtomicLong();
+        BufferedReader reader
+                = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        Iterator<ImportRow> rows = reader.lines()
+                .map(line -> fromJson(lineNumber.incrementAndGet(), line))
+                .filter(Objects::nonNull)
+                .iterator();
+        return importRows(rows);
+    }
+
+    @Override
+    public BookImportReportDto importCsv(InputStream inputStream) {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try {
+            MappingIterator<Map<String, String>> records = csvMapper
+                    .readerForMapOf(String.class)
+                    .with(schema)
+                    .readValues(inputStream);
+            return importRows(fromCsv(records));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the CSV import", e);
+        }
+    }
+
+    private BookImportReportDto importRows(Iterator<ImportRow> rows) {
+        BookImportReportDto report = new BookImportReportDto();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() == chunkSize) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        return report;
+    }
+
+    private void importChunk(List<ImportRow> chunk, BookImportReportDto report) {
+        Set<String> importedIsbns = new HashSet<>();
+        List<ImportRow> validRows = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            String error = row.error() != null ? row.error() : validate(row.book());
+            if (error == null && !importedIsbns.add(row.book().getIsbn())) {
+                error = "The isbn is duplicated within the import";
+            }
+            if (error == null) {
+                validRows.add(row);
+            } else {
+                addError(report, row, error);
+            }
+        }
+        if (validRows.isEmpty()) {
+            return;
+        }
+        Set<String> existingIsbns = new HashSet<>(bookRepository.findAllIsbnsIncludingDeleted(
+                validRows.stream().map(row -> row.book().getIsbn()).toList()));
+        Map<Long, Category> categoriesById = getCategoriesById(validRows);
+        List<ImportRow> insertedRows = new ArrayList<>();
+        List<Book> books = new ArrayList<>();
+        for (ImportRow row : validRows) {
+            CreateBookRequestDto bookDto = row.book();
+            String missingCategoryIds = bookDto.getCategoryIds().stream()
+                    .filter(categoryId -> !categoriesById.containsKey(categoryId))
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+            if (existingIsbns.contains(bookDto.getIsbn())) {
+                addError(report, row, "This isbn: " + bookDto.getIsbn()
+                        + ", is already registered in the data base");
+            } else if (!missingCategoryIds.isEmpty()) {
+                addError(report, row, "There is no category by id: " + missingCategoryIds);
+            } else {
+                List<Category> categories = bookDto.getCategoryIds().stream()
+                        .distinct()
+                        .map(categoriesById::get)
+                        .toList();
+                books.add(bookMapper.toModel(bookDto, categories));
+                insertedRows.add(row);
+            }
+        }
+        if (books.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> bookRepository.insertAll(books));
+            report.setImported(report.getImported() + books.size());
+            cacheManager.getCache(CacheConfig.BOOK_SEARCHES_CACHE).clear();
+            books.forEach(book -> {
+                bookIndexService.index(book);
+                bookSuggestService.index(book);
+            });
+        } catch (DataAccessException e) {
+            insertedRows.forEach(row -> addError(report, row,
+                    "The chunk was rolled back: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private Map<Long, Category> getCategoriesById(List<ImportRow> rows) {
+        Set<Long> categoryIds = rows.stream()
+                .map(ImportRow::book)
+                .map(CreateBookRequestDto::getCategoryIds)
+                .flatMap(Collection::stream)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    private String validate(CreateBookRequestDto bookDto) {
+        Set<ConstraintViolation<CreateBookRequestDto>> violations = validator.validate(bookDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void addError(BookImportReportDto report, ImportRow row, String message) {
+        String isbn = row.book() == null ? null : row.book().getIsbn();
+        report.getErrors().add(new BookImportErrorDto(row.line(), isbn, message));
+        report.setFailed(report.getFailed() + 1);
+    }
+
+    private ImportRow fromJson(long line, String json) {
+        if (json.isBlank()) {
+            return null;
+        }
+        try {
+            return new ImportRow(line, objectMapper.readValue(json, CreateBookRequestDto.class),
+                    null);
+        } catch (JsonProcessingException e) {
+            return new ImportRow(line, null, "The row is malformed: " + e.getOriginalMessage());
+        }
+    }
+
+    private Iterator<ImportRow> fromCsv(MappingIterator<Map<String, String>> records) {
+        return new Iterator<>() {
+            private long line = 1;
+
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public ImportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                line++;
+                try {
+                    return fromCsvRecord(line, records.next());
+                } catch (RuntimeException e) {
+                    return new ImportRow(line, null, "The row is malformed: " + e.getMessage());
+                }
+            }
+        };
+    }
+
+    private ImportRow fromCsvRecord(long line, Map<String, String> record) {
+        CreateBookRequestDto bookDto = new CreateBookRequestDto();
+        bookDto.setTitle(valueOrNull(record.get("title")));
+        bookDto.setAuthor(valueOrNull(record.get("author")));
+        bookDto.setIsbn(valueOrNull(record.get("isbn")));
+        bookDto.setDescription(valueOrNull(record.get("description")));
+        bookDto.setCoverImage(valueOrNull(record.get("coverImage")));
+        try {
+            String price = valueOrNull(record.get("price"));
+            bookDto.setPrice(price == null ? null : Double.valueOf(price));
+            String categoryIds = valueOrNull(record.get("categoryIds"));
+            if (categoryIds != null) {
+                bookDto.setCategoryIds(Arrays.stream(categoryIds.split(CATEGORY_SEPARATOR))
+                        .map(String::trim)
+                        .filter(categoryId -> !categoryId.isEmpty())
+                        .map(Long::valueOf)
+                        .toList());
+            }
+        } catch (NumberFormatException e) {
+            return new ImportRow(line, bookDto, "The row is malformed: " + e.getMessage());
+        }
+        return new ImportRow(line, bookDto, null);
+    }
+
+    private String valueOrNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private record ImportRow(long line, CreateBookRequestDto book, String error) {
+    }
+}
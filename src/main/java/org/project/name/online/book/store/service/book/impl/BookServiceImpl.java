@@ -1,42 +1,91 @@
 package org.project.name.online.book.store.service.book.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.config.CacheConfig;
 import org.project.name.online.book.store.dto.book.BookDto;
 import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
 import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.dto.book.BookSearchResultDto;
 import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
 import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.project.name.online.book.store.exception.DuplicateException;
 import org.project.name.online.book.store.exception.EntityNotFoundException;
 import org.project.name.online.book.store.mapper.book.BookMapper;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.model.Category;
+import org.project.name.online.book.store.repository.KeysetSpecificationBuilder;
 import org.project.name.online.book.store.repository.book.BookRepository;
 import org.project.name.online.book.store.repository.book.BookSpecificationBuilder;
 import org.project.name.online.book.store.repository.category.CategoryRepository;
 import org.project.name.online.book.store.service.book.BookService;
+import org.project.name.online.book.store.service.search.BookIndexService;
+import org.project.name.online.book.store.service.search.BookSearchKey;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class BookServiceImpl implements BookService {
+    private static final Set<String> KEYSET_PROPERTIES = Set.of("id", "title", "author", "price");
     private final BookRepository bookRepository;
     private final CategoryRepository categoryRepository;
     private final BookMapper bookMapper;
     private final BookSpecificationBuilder bookSpecificationBuilder;
+    private final KeysetSpecificationBuilder keysetSpecificationBuilder;
+    private final ObjectMapper objectMapper;
+    private final BookIndexService bookIndexService;
+    private final BookSuggestService bookSuggestService;
+    private final CacheManager cacheManager;
 
     @Override
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#result.id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true)
+    )
     public BookDto save(CreateBookRequestDto bookDto) {
         checkIfIsbnIsDuplicate(bookDto.getIsbn());
         List<Category> categories = getListOfCategories(bookDto.getCategoryIds());
-        Book book = bookMapper.toModel(bookDto, categories);
-        return bookMapper.toDto(bookRepository.save(book));
+        Book book = bookRepository.save(bookMapper.toModel(bookDto, categories));
+        bookIndexService.index(book);
+        bookSuggestService.index(book);
+        return bookMapper.toDto(book);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id", sync = true)
+    @Transactional(readOnly = true)
     public BookDto getBookById(Long id) {
         return bookRepository.findById(id)
                 .map(bookMapper::toDto)
@@ -44,42 +93,207 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
-    public List<BookDto> findAll(Pageable pageable) {
-        return bookRepository.findAll(pageable).stream()
-                .map(bookMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public BookDto getBookById(Long id, BookFields fields) {
+        return hydrate(List.of(id), fields).stream()
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("There is no book by id: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookDto> findAll(Pageable pageable, BookFields fields) {
+        return findPage(Specification.where(null), pageable, fields);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<BookDto> findAll(KeysetCursor cursor, int size, BookFields fields) {
+        return findSlice(Specification.where(null), cursor, size, fields);
+    }
+
+    @Override
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true)
+    )
     public BookDto updateBookById(Long id, UpdateBookRequestDto bookDto) {
         checkIfIsbnIsDuplicate(bookDto.getIsbn());
         Book bookById = bookRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("There is no book by id: " + id));
         List<Category> categories = getListOfCategories(bookDto.getCategoryIds());
-        Book book = bookMapper.mergeEntities(bookDto, bookById, categories);
-        return bookMapper.toDto(bookRepository.save(book));
+        Book book = bookRepository.save(bookMapper.mergeEntities(bookDto, bookById, categories));
+        bookIndexService.index(book);
+        bookSuggestService.index(book);
+        return bookMapper.toDto(book);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookDto> searchBook(
+            BookSearchParameters searchParameters,
+            Pageable pageable,
+            BookFields fields
+    ) {
+        Cache searchesCache = cacheManager.getCache(CacheConfig.BOOK_SEARCHES_CACHE);
+        List<Long> ids = searchesCache.get(BookSearchKey.of(searchParameters, pageable),
+                () -> findIds(searchParameters, pageable));
+        return hydrate(ids, fields);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<BookDto> searchBook(
+            BookSearchParameters searchParameters,
+            KeysetCursor cursor,
+            int size,
+            BookFields fields
+    ) {
+        return findSlice(bookSpecificationBuilder.build(searchParameters), cursor, size, fields);
     }
 
     @Override
-    public List<BookDto> searchBook(BookSearchParameters searchParameters, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public BookSearchResultDto searchBookWithFacets(
+            BookSearchParameters searchParameters,
+            Pageable pageable
+    ) {
         Specification<Book> bookSpecification = bookSpecificationBuilder.build(searchParameters);
-        return bookRepository.findAll(bookSpecification, pageable).stream()
-                .map(bookMapper::toDto)
-                .toList();
+        return new BookSearchResultDto(searchBook(searchParameters, pageable, BookFields.ALL),
+                bookRepository.countFacets(bookSpecification));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookDtoWithoutCategoryIds> findAllByCategoryId(Long id, Pageable pageable) {
-        return bookRepository.findAllByCategoryId(id, pageable).stream()
-                .map(bookMapper::toDtoWithoutCategories)
-                .toList();
+        return bookRepository.findAllByCategoryId(id, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<BookDtoWithoutCategoryIds> findAllByCategoryId(
+            Long id,
+            KeysetCursor cursor,
+            int size
+    ) {
+        cursor.checkProperty(KEYSET_PROPERTIES);
+        List<BookDtoWithoutCategoryIds> books = bookRepository.findAllByCategoryId(
+                id, keysetSpecificationBuilder.build(cursor), cursor.toPageable(size));
+        return KeysetSlice.of(books, cursor, size);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true)
+    })
     public void deleteById(Long id) {
         bookRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("There is no book by id: " + id));
         bookRepository.deleteById(id);
+        bookIndexService.remove(id);
+        bookSuggestService.remove(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream outputStream) {
+        try (Stream<BookExportRow> rows = bookRepository.streamAll(BookFields.ALL);
+                JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            BookDto book = null;
+            Iterator<BookExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                BookExportRow row = iterator.next();
+                if (book == null || !book.getId().equals(row.id())) {
+                    if (book != null) {
+                        objectMapper.writeValue(generator, book);
+                    }
+                    book = bookMapper.toDto(row);
+                    book.setCategoryIds(new ArrayList<>());
+                }
+                if (row.categoryName() != null) {
+                    book.getCategoryIds().add(row.categoryName());
+                }
+            }
+            if (book != null) {
+                objectMapper.writeValue(generator, book);
+                generator.writeRaw('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write the book export", e);
+        }
+    }
+
+    private KeysetSlice<BookDto> findSlice(
+            Specification<Book> specification,
+            KeysetCursor cursor,
+            int size,
+            BookFields fields
+    ) {
+        cursor.checkProperty(KEYSET_PROPERTIES);
+        Specification<Book> keyset = keysetSpecificationBuilder.build(cursor);
+        List<BookDto> books = findPage(specification.and(keyset), cursor.toPageable(size),
+                fields.with(cursor.property()));
+        return KeysetSlice.of(books, cursor, size);
+    }
+
+    private List<Long> findIds(BookSearchParameters searchParameters, Pageable pageable) {
+        Optional<List<Long>> indexedIds = bookIndexService.findIds(searchParameters, pageable);
+        if (indexedIds.isPresent()) {
+            return indexedIds.get();
+        }
+        Specification<Book> bookSpecification = bookSpecificationBuilder.build(searchParameters);
+        return bookRepository.findIds(bookSpecification, pageable);
+    }
+
+    private List<BookDto> findPage(
+            Specification<Book> specification,
+            Pageable pageable,
+            BookFields fields
+    ) {
+        return hydrate(bookRepository.findIds(specification, pageable), fields);
+    }
+
+    private List<BookDto> hydrate(List<Long> ids, BookFields fields) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Cache booksCache = cacheManager.getCache(CacheConfig.BOOKS_CACHE);
+        Map<Long, BookDto> booksById = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            BookDto book = booksCache.get(id, BookDto.class);
+            if (book == null) {
+                missingIds.add(id);
+            } else {
+                booksById.put(id, book);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            Map<Long, BookDto> loadedBooks = new HashMap<>();
+            boolean withCategories = fields.includes(BookFields.CATEGORY_IDS);
+            for (BookExportRow row : bookRepository.findRowsByIdIn(missingIds, fields)) {
+                BookDto bookDto = loadedBooks.computeIfAbsent(row.id(), id -> {
+                    BookDto loadedBook = bookMapper.toDto(row);
+                    if (withCategories) {
+                        loadedBook.setCategoryIds(new ArrayList<>());
+                    }
+                    return loadedBook;
+                });
+                if (row.categoryName() != null) {
+                    bookDto.getCategoryIds().add(row.categoryName());
+                }
+            }
+            if (fields.isAll()) {
+                loadedBooks.forEach(booksCache::put);
+            }
+            booksById.putAll(loadedBooks);
+        }
+        return ids.stream()
+                .map(booksById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     private void checkIfIsbnIsDuplicate(String isbn) {
@@ -90,10 +304,18 @@ public class BookServiceImpl implements BookService {
     }
 
     private List<Category> getListOfCategories(List<Long> bookCategories) {
-        return bookCategories.stream()
-                .map(categoryId -> categoryRepository.findById(categoryId).orElseThrow(
-                        () -> new EntityNotFoundException(
-                                "There is no category by id: " + categoryId)))
+        Set<Long> categoryIds = new LinkedHashSet<>(bookCategories);
+        Map<Long, Category> categoriesById = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        String missingIds = categoryIds.stream()
+                .filter(categoryId -> !categoriesById.containsKey(categoryId))
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException("There is no category by id: " + missingIds);
+        }
+        return categoryIds.stream()
+                .map(categoriesById::get)
                 .toList();
     }
 }
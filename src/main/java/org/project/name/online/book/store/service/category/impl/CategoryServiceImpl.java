@@ -2,6 +2,7 @@ package org.project.name.online.book.store.service.category.impl;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.config.CacheConfig;
 import org.project.name.online.book.store.dto.category.CategoryDto;
 import org.project.name.online.book.store.dto.category.CreateCategoryRequestDto;
 import org.project.name.online.book.store.exception.EntityNotFoundException;
@@ -9,6 +10,10 @@ import org.project.name.online.book.store.mapper.category.CategoryMapper;
 import org.project.name.online.book.store.model.Category;
 import org.project.name.online.book.store.repository.category.CategoryRepository;
 import org.project.name.online.book.store.service.category.CategoryService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -20,12 +25,13 @@ public class CategoryServiceImpl implements CategoryService {
 
     @Override
     public List<CategoryDto> findAll(Pageable pageable) {
-        return categoryRepository.findAll(pageable).stream()
+        return categoryRepository.findAllBy(pageable).stream()
                 .map(categoryMapper::toDto)
                 .toList();
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES_CACHE, key = "#id", sync = true)
     public CategoryDto getById(Long id) {
         return categoryRepository.findById(id)
                 .map(categoryMapper::toDto)
@@ -34,12 +40,17 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @CachePut(cacheNames = CacheConfig.CATEGORIES_CACHE, key = "#result.id")
     public CategoryDto save(CreateCategoryRequestDto categoryDto) {
         Category category = categoryMapper.toEntity(categoryDto);
         return categoryMapper.toDto(categoryRepository.save(category));
     }
 
     @Override
+    @Caching(
+            put = @CachePut(cacheNames = CacheConfig.CATEGORIES_CACHE, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, allEntries = true)
+    )
     public CategoryDto update(Long id, CreateCategoryRequestDto categoryDto) {
         Category categoryById = categoryRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("There is no category by id: " + id));
@@ -48,6 +59,11 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.BOOKS_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.BOOK_SEARCHES_CACHE, allEntries = true)
+    })
     public void deleteById(Long id) {
         categoryRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("There is no category by id: " + id));
@@ -0,0 +1,11 @@
+package org.project.name.online.book.store.service.count;
+
+import java.util.Optional;
+
+public interface TotalCountService {
+    Optional<Long> getBooksCount();
+
+    Optional<Long> getCategoriesCount();
+
+    void refresh();
+}
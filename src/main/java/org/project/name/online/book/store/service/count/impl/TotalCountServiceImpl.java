@@ -0,0 +1,36 @@
+package org.project.name.online.book.store.service.count.impl;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.service.count.TotalCountService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@RequiredArgsConstructor
+@Service
+public class TotalCountServiceImpl implements TotalCountService {
+    private final AtomicReference<Long> booksCount = new AtomicReference<>();
+    private final AtomicReference<Long> categoriesCount = new AtomicReference<>();
+    private final BookRepository bookRepository;
+    private final CategoryRepository categoryRepository;
+
+    @Override
+    public Optional<Long> getBooksCount() {
+        return Optional.ofNullable(booksCount.get());
+    }
+
+    @Override
+    public Optional<Long> getCategoriesCount() {
+        return Optional.ofNullable(categoriesCount.get());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${total-count.refresh-interval}")
+    public void refresh() {
+        booksCount.set(bookRepository.count());
+        categoriesCount.set(categoryRepository.count());
+    }
+}
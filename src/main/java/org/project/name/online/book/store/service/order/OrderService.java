@@ -1,21 +1,26 @@
 package org.project.name.online.book.store.service.order;
 
 import java.util.List;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.project.name.online.book.store.dto.order.CreateOrderRequestDto;
 import org.project.name.online.book.store.dto.order.OrderDto;
 import org.project.name.online.book.store.dto.order.OrderDtoWithStatus;
 import org.project.name.online.book.store.dto.order.UpdateOrderRequestDto;
 import org.project.name.online.book.store.dto.order.item.OrderItemDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.springframework.data.domain.Pageable;
 
 public interface OrderService {
-    void save(String email, CreateOrderRequestDto orderDto);
+    void save(UserIdentity identity, CreateOrderRequestDto orderDto);
 
-    List<OrderDto> getAll(String email, Pageable pageable);
+    List<OrderDto> getAll(UserIdentity identity, Pageable pageable);
+
+    KeysetSlice<OrderDto> getAll(UserIdentity identity, KeysetCursor cursor, int size);
 
     OrderDtoWithStatus update(Long id, UpdateOrderRequestDto orderDto);
 
-    List<OrderItemDto> getAllByOrderId(String email, Long orderId, Pageable pageable);
+    List<OrderItemDto> getAllByOrderId(UserIdentity identity, Long orderId, Pageable pageable);
 
-    OrderItemDto getById(String email, Long orderId, Long itemId);
+    OrderItemDto getById(UserIdentity identity, Long orderId, Long itemId);
 }
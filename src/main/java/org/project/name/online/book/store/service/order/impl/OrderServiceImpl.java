@@ -4,12 +4,16 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.project.name.online.book.store.dto.order.CreateOrderRequestDto;
 import org.project.name.online.book.store.dto.order.OrderDto;
 import org.project.name.online.book.store.dto.order.OrderDtoWithStatus;
 import org.project.name.online.book.store.dto.order.UpdateOrderRequestDto;
 import org.project.name.online.book.store.dto.order.item.OrderItemDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.project.name.online.book.store.exception.EntityNotFoundException;
 import org.project.name.online.book.store.exception.PriceException;
 import org.project.name.online.book.store.exception.StatusException;
@@ -20,35 +24,40 @@ import org.project.name.online.book.store.model.CartItem;
 import org.project.name.online.book.store.model.Order;
 import org.project.name.online.book.store.model.OrderItem;
 import org.project.name.online.book.store.model.ShoppingCart;
-import org.project.name.online.book.store.model.User;
+import org.project.name.online.book.store.repository.KeysetSpecificationBuilder;
 import org.project.name.online.book.store.repository.book.BookRepository;
 import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
 import org.project.name.online.book.store.repository.order.OrderRepository;
 import org.project.name.online.book.store.repository.order.item.OrderItemRepository;
 import org.project.name.online.book.store.repository.shopping.cart.ShoppingCartRepository;
-import org.project.name.online.book.store.repository.user.UserRepository;
 import org.project.name.online.book.store.service.order.OrderService;
+import org.project.name.online.book.store.service.shopping.cart.CartItemQuantityBuffer;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class OrderServiceImpl implements OrderService {
-    private final UserRepository userRepository;
+    private static final Set<String> KEYSET_PROPERTIES = Set.of("id", "orderDate");
     private final ShoppingCartRepository shoppingCartRepository;
     private final CartItemRepository cartItemRepository;
+    private final CartItemQuantityBuffer cartItemQuantityBuffer;
     private final OrderRepository orderRepository;
     private final BookRepository bookRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderMapper orderMapper;
     private final OrderItemMapper orderItemMapper;
+    private final KeysetSpecificationBuilder keysetSpecificationBuilder;
 
     @Override
-    public void save(String email, CreateOrderRequestDto orderDto) {
-        User user = getUserByEmail(email);
-        ShoppingCart shoppingCart = shoppingCartRepository.findByUserId(user.getId()).orElseThrow(
+    @Transactional
+    public void save(UserIdentity identity, CreateOrderRequestDto orderDto) {
+        Long shoppingCartId = identity.requireShoppingCartId();
+        cartItemQuantityBuffer.flush(shoppingCartId);
+        ShoppingCart shoppingCart = shoppingCartRepository.findById(shoppingCartId).orElseThrow(
                 () -> new EntityNotFoundException(
-                        "There is no shopping cart by user id: " + user.getId()));
+                        "There is no shopping cart by user id: " + identity.userId()));
         List<CartItem> cartItems = cartItemRepository.findAllByShoppingCartId(shoppingCart.getId());
         Order order = orderMapper.toEntity(shoppingCart, Order.Status.PENDING, new BigDecimal(0),
                 orderDto, LocalDateTime.now());
@@ -62,18 +71,24 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    public List<OrderDto> getAll(String email, Pageable pageable) {
-        User user = getUserByEmail(email);
-        List<Order> orders = orderRepository.findAllByUserId(user.getId(), pageable);
+    @Transactional(readOnly = true)
+    public List<OrderDto> getAll(UserIdentity identity, Pageable pageable) {
+        List<Order> orders = orderRepository.findAllByUserId(identity.userId(), pageable);
         return orders.stream()
-                .map(order -> {
-                    List<OrderItem> orderItems
-                            = orderItemRepository.findAllByOrderId(order.getId());
-                    List<OrderItemDto> orderItemsDto = orderItems.stream()
-                            .map(orderItemMapper::toDto)
-                            .toList();
-                    return orderMapper.toDto(order, orderItemsDto);
-                }).toList();
+                .map(this::toDtoWithItems)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<OrderDto> getAll(UserIdentity identity, KeysetCursor cursor, int size) {
+        cursor.checkProperty(KEYSET_PROPERTIES);
+        List<Order> orders = orderRepository.findAllByUserId(identity.userId(),
+                keysetSpecificationBuilder.build(cursor), cursor.toPageable(size));
+        List<OrderDto> ordersDto = orders.stream()
+                .map(this::toDtoWithItems)
+                .toList();
+        return KeysetSlice.of(ordersDto, cursor, size);
     }
 
     @Override
@@ -91,27 +106,25 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    public List<OrderItemDto> getAllByOrderId(String email, Long orderId, Pageable pageable) {
-        User user = getUserByEmail(email);
-        List<Order> orders = orderRepository.findAllByUserId(user.getId(), pageable);
+    @Transactional(readOnly = true)
+    public List<OrderItemDto> getAllByOrderId(
+            UserIdentity identity,
+            Long orderId,
+            Pageable pageable
+    ) {
+        List<Order> orders = orderRepository.findAllByUserId(identity.userId(), pageable);
         Order orderById = getOrderById(orders, orderId);
-        List<OrderItem> orderItems
-                = orderItemRepository.findAllByOrderId(orderById.getId(), pageable);
-        return orderItemMapper.toDtoList(orderItems);
+        return orderItemRepository.findAllDtoByOrderId(orderById.getId(), pageable);
     }
 
     @Override
-    public OrderItemDto getById(String email, Long orderId, Long itemId) {
-        User user = getUserByEmail(email);
-        List<Order> orders = orderRepository.findAllByUserId(user.getId());
+    @Transactional(readOnly = true)
+    public OrderItemDto getById(UserIdentity identity, Long orderId, Long itemId) {
+        List<Order> orders = orderRepository.findAllByUserId(identity.userId());
         Order orderById = getOrderById(orders, orderId);
-        List<OrderItem> orderItems = orderItemRepository.findAllByOrderId(orderById.getId());
-        OrderItem orderItemById = orderItems.stream()
-                .filter(orderItem -> orderItem.getId().equals(itemId))
-                .findFirst()
+        return orderItemRepository.findDtoByIdAndOrderId(itemId, orderById.getId())
                 .orElseThrow(() -> new EntityNotFoundException(
                         "There is no order-item by id: " + itemId));
-        return orderItemMapper.toDto(orderItemById);
     }
 
     private void saveOrderItemsToOrder(List<CartItem> cartItems, Order order) {
@@ -129,9 +142,8 @@ public class OrderServiceImpl implements OrderService {
         });
     }
 
-    private User getUserByEmail(String email) {
-        return userRepository.findByEmail(email).orElseThrow(
-                () -> new EntityNotFoundException("There is no user by email: " + email));
+    private OrderDto toDtoWithItems(Order order) {
+        return orderMapper.toDto(order, orderItemRepository.findAllDtoByOrderId(order.getId()));
     }
 
     private Order getOrderById(List<Order> orders, Long orderId) {
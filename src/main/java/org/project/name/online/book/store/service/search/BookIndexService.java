@@ -0,0 +1,17 @@
+package org.project.name.online.book.store.service.search;
+
+import java.util.List;
+import java.util.Optional;
+import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.model.Book;
+import org.springframework.data.domain.Pageable;
+
+public interface BookIndexService {
+    void rebuild();
+
+    Optional<List<Long>> findIds(BookSearchParameters searchParameters, Pageable pageable);
+
+    void index(Book book);
+
+    void remove(Long id);
+}
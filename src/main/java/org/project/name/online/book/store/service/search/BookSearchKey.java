@@ -0,0 +1,16 @@
+package org.project.name.online.book.store.service.search;
+
+import org.project.name.online.book.store.dto.book.BookSearchCriteria;
+import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.springframework.data.domain.Pageable;
+
+public record BookSearchKey(BookSearchCriteria criteria, long offset, int size, String sort) {
+    public static BookSearchKey of(BookSearchParameters searchParameters, Pageable pageable) {
+        return new BookSearchKey(
+                BookSearchCriteria.of(searchParameters),
+                pageable.isPaged() ? pageable.getOffset() : 0,
+                pageable.isPaged() ? pageable.getPageSize() : -1,
+                pageable.getSort().toString()
+        );
+    }
+}
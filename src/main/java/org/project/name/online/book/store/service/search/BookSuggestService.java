@@ -0,0 +1,17 @@
+package org.project.name.online.book.store.service.search;
+
+import java.util.List;
+import org.project.name.online.book.store.dto.book.BookSuggestionDto;
+import org.project.name.online.book.store.model.Book;
+
+public interface BookSuggestService {
+    int MAX_LIMIT = 20;
+
+    void rebuild();
+
+    List<BookSuggestionDto> suggest(String prefix, int limit);
+
+    void index(Book book);
+
+    void remove(Long id);
+}
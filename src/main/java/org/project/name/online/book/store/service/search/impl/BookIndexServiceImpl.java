@@ -0,0 +1,251 @@
+package org.project.name.online.book.store.service.search.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.dto.book.BookKeywords;
+import org.project.name.online.book.store.dto.book.BookSearchCriteria;
+import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.service.search.BookIndexService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class BookIndexServiceImpl implements BookIndexService {
+    private static final int[] NO_IDS = new int[0];
+    private static final BookFields INDEXED_FIELDS = BookFields.of("title,author,description");
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    private final BookRepository bookRepository;
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<Integer, List<String>> tokensById = new HashMap<>();
+    private boolean ready;
+
+    @Value("${book.search.index.enabled}")
+    private boolean enabled;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        setReady(false);
+        Map<String, Postings> builtPostings = new HashMap<>();
+        Map<Integer, List<String>> builtTokensById = new HashMap<>();
+        try (Stream<BookExportRow> rows = bookRepository.streamAll(INDEXED_FIELDS)) {
+            rows.forEach(row -> {
+                int id = Math.toIntExact(row.id());
+                List<String> tokens = BookKeywords.of(row.title(), row.author(), row.description());
+                builtTokensById.put(id, tokens);
+                tokens.forEach(token -> builtPostings
+                        .computeIfAbsent(token, key -> new Postings())
+                        .add(id));
+            });
+        }
+        lock.writeLock().lock();
+        try {
+            postings = builtPostings;
+            tokensById = builtTokensById;
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<List<Long>> findIds(
+            BookSearchParameters searchParameters,
+            Pageable pageable
+    ) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        BookSearchCriteria criteria = BookSearchCriteria.of(searchParameters);
+        if (!criteria.hasOnlyKeywords() || !isSortedById(pageable.getSort())) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            int[] ids = intersect(criteria.keywords());
+            int from = (int) Math.min(pageable.isPaged() ? pageable.getOffset() : 0, ids.length);
+            int to = pageable.isPaged()
+                    ? Math.min(from + pageable.getPageSize(), ids.length)
+                    : ids.length;
+            return Optional.of(Arrays.stream(ids, from, to).asLongStream().boxed().toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Book book) {
+        int id = Math.toIntExact(book.getId());
+        List<String> tokens
+                = BookKeywords.of(book.getTitle(), book.getAuthor(), book.getDescription());
+        apply(() -> {
+            removeDocument(id);
+            addDocument(id, tokens);
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        apply(() -> removeDocument(Math.toIntExact(id)));
+    }
+
+    private void apply(Runnable change) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.run();
+            } else {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void setReady(boolean ready) {
+        lock.writeLock().lock();
+        try {
+            this.ready = ready;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isSortedById(Sort sort) {
+        Sort.Order idOrder = sort.getOrderFor("id");
+        return sort.isUnsorted()
+                || sort.stream().count() == 1 && idOrder != null && idOrder.isAscending();
+    }
+
+    private int[] intersect(List<String> tokens) {
+        List<Postings> postingLists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Postings ids = postings.get(token);
+            if (ids == null) {
+                return NO_IDS;
+            }
+            postingLists.add(ids);
+        }
+        postingLists.sort(Comparator.comparingInt(ids -> ids.size));
+        int[] result = postingLists.get(0).toArray();
+        for (int i = 1; i < postingLists.size() && result.length > 0; i++) {
+            result = postingLists.get(i).retainAll(result);
+        }
+        return result;
+    }
+
+    private void addDocument(int id, List<String> tokens) {
+        tokensById.put(id, tokens);
+        for (String token : tokens) {
+            postings.computeIfAbsent(token, key -> new Postings()).add(id);
+        }
+    }
+
+    private void removeDocument(int id) {
+        List<String> tokens = tokensById.remove(id);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Postings ids = postings.get(token);
+            if (ids != null && ids.remove(id) && ids.size == 0) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                insert(id);
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private void insert(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int position = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private int[] retainAll(int[] shorter) {
+            int[] result = new int[shorter.length];
+            int retained = 0;
+            int from = 0;
+            for (int id : shorter) {
+                int index = Arrays.binarySearch(ids, from, size, id);
+                if (index >= 0) {
+                    result[retained++] = id;
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+                if (from == size) {
+                    break;
+                }
+            }
+            return Arrays.copyOf(result, retained);
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
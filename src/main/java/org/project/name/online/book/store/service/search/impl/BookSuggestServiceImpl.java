@@ -0,0 +1,195 @@
+package org.project.name.online.book.store.service.search.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.dto.book.BookSuggestionDto;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class BookSuggestServiceImpl implements BookSuggestService {
+    private static final int CACHED_PREFIXES_SIZE = 10000;
+    private static final char TYPE_SEPARATOR = '\u0000';
+    private static final String TITLE = "title";
+    private static final String AUTHOR = "author";
+    private static final BookFields SUGGESTED_FIELDS = BookFields.of("title,author");
+    private static final Comparator<Term> RANK = Comparator.comparingLong(Term::getBooks)
+            .reversed()
+            .thenComparing(Term::getKey);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Cache<String, List<BookSuggestionDto>> topByPrefix
+            = Caffeine.newBuilder().maximumSize(CACHED_PREFIXES_SIZE).build();
+    private final List<Supplier<List<Term>>> pendingChanges = new ArrayList<>();
+    private final BookRepository bookRepository;
+    private TreeMap<String, Term> terms = new TreeMap<>();
+    private Map<Long, List<Term>> termsByBook = new HashMap<>();
+    private boolean ready;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        TreeMap<String, Term> builtTerms = new TreeMap<>();
+        Map<Long, List<Term>> builtTermsByBook = new HashMap<>();
+        try (Stream<BookExportRow> rows = bookRepository.streamAll(SUGGESTED_FIELDS)) {
+            rows.forEach(row -> builtTermsByBook.put(row.id(),
+                    addTerms(builtTerms, row.title(), row.author())));
+        }
+        lock.writeLock().lock();
+        try {
+            terms = builtTerms;
+            termsByBook = builtTermsByBook;
+            pendingChanges.forEach(Supplier::get);
+            pendingChanges.clear();
+            topByPrefix.invalidateAll();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<BookSuggestionDto> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return List.of();
+            }
+            List<BookSuggestionDto> top = topByPrefix.get(normalized, this::findTop);
+            return top.subList(0, Math.min(limit, top.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Book book) {
+        Long id = book.getId();
+        String title = book.getTitle();
+        String author = book.getAuthor();
+        apply(() -> {
+            List<Term> changed = new ArrayList<>(removeTerms(id));
+            List<Term> added = addTerms(terms, title, author);
+            termsByBook.put(id, added);
+            changed.addAll(added);
+            return changed;
+        });
+    }
+
+    @Override
+    public void remove(Long id) {
+        apply(() -> removeTerms(id));
+    }
+
+    private void apply(Supplier<List<Term>> change) {
+        lock.writeLock().lock();
+        try {
+            if (ready) {
+                change.get().forEach(this::evictCachedPrefixes);
+            } else {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<BookSuggestionDto> findTop(String prefix) {
+        PriorityQueue<Term> top = new PriorityQueue<>(MAX_LIMIT + 1, RANK.reversed());
+        for (Term term : terms.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            top.add(term);
+            if (top.size() > MAX_LIMIT) {
+                top.poll();
+            }
+        }
+        return top.stream()
+                .sorted(RANK)
+                .map(term -> new BookSuggestionDto(term.getText(), term.getType(),
+                        term.getBooks()))
+                .toList();
+    }
+
+    private List<Term> addTerms(TreeMap<String, Term> target, String title, String author) {
+        List<Term> added = new ArrayList<>(2);
+        addTerm(target, title, TITLE, added);
+        addTerm(target, author, AUTHOR, added);
+        return added;
+    }
+
+    private void addTerm(TreeMap<String, Term> target, String text, String type,
+                         List<Term> added) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String key = normalized + TYPE_SEPARATOR + type;
+        Term term = target.computeIfAbsent(key, k -> new Term(k, text.trim(), type));
+        term.books++;
+        added.add(term);
+    }
+
+    private void evictCachedPrefixes(Term term) {
+        String normalized = term.getKey().substring(0, term.getKey().lastIndexOf(TYPE_SEPARATOR));
+        for (int length = 1; length <= normalized.length(); length++) {
+            topByPrefix.invalidate(normalized.substring(0, length));
+        }
+    }
+
+    private List<Term> removeTerms(Long id) {
+        List<Term> removed = termsByBook.remove(id);
+        if (removed == null) {
+            return List.of();
+        }
+        for (Term term : removed) {
+            if (--term.books == 0) {
+                terms.remove(term.getKey());
+            }
+        }
+        return removed;
+    }
+
+    private String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Term {
+        private final String key;
+        private final String text;
+        private final String type;
+        private long books;
+    }
+}
@@ -0,0 +1,11 @@
+package org.project.name.online.book.store.service.shopping.cart;
+
+public interface CartItemQuantityBuffer {
+    boolean offer(Long shoppingCartId, Long cartItemId, int quantity);
+
+    void discard(Long cartItemId);
+
+    void flush(Long shoppingCartId);
+
+    void flushAll();
+}
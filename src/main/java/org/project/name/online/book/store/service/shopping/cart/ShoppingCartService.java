@@ -3,14 +3,15 @@ package org.project.name.online.book.store.service.shopping.cart;
 import org.project.name.online.book.store.dto.cart.item.CreateCartItemRequestDto;
 import org.project.name.online.book.store.dto.cart.item.UpdateCartItemRequestDto;
 import org.project.name.online.book.store.dto.shopping.cart.ShoppingCartDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.springframework.data.domain.Pageable;
 
 public interface ShoppingCartService {
-    void save(String email, CreateCartItemRequestDto cartItemDto);
+    void save(UserIdentity identity, CreateCartItemRequestDto cartItemDto);
 
-    ShoppingCartDto getCartByUserId(String email, Pageable pageable);
+    ShoppingCartDto getCartByUserId(UserIdentity identity, Pageable pageable);
 
-    void update(String email, Long cartItemId, UpdateCartItemRequestDto cartItemDto);
+    void update(UserIdentity identity, Long cartItemId, UpdateCartItemRequestDto cartItemDto);
 
-    void delete(String email, Long cartItemId);
+    void delete(UserIdentity identity, Long cartItemId);
 }
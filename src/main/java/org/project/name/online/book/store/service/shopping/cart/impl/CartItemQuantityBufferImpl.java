@@ -0,0 +1,102 @@
+package org.project.name.online.book.store.service.shopping.cart.impl;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import org.project.name.online.book.store.exception.EntityNotFoundException;
+import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
+import org.project.name.online.book.store.service.shopping.cart.CartItemQuantityBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class CartItemQuantityBufferImpl implements CartItemQuantityBuffer {
+    private final Map<Long, PendingQuantity> pending = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+    private final CartItemRepository cartItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cart.write-behind.enabled}")
+    private boolean enabled;
+
+    @Value("${cart.write-behind.max-pending}")
+    private int maxPending;
+
+    public CartItemQuantityBufferImpl(
+            CartItemRepository cartItemRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.cartItemRepository = cartItemRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public boolean offer(Long shoppingCartId, Long cartItemId, int quantity) {
+        if (!enabled) {
+            return false;
+        }
+        PendingQuantity previous = pending.get(cartItemId);
+        if (previous == null || !previous.shoppingCartId().equals(shoppingCartId)) {
+            if (pending.size() >= maxPending) {
+                return false;
+            }
+            if (!cartItemRepository.existsByIdAndShoppingCartId(cartItemId, shoppingCartId)) {
+                throw new EntityNotFoundException("There is no cart-item by id: " + cartItemId);
+            }
+        }
+        pending.put(cartItemId, new PendingQuantity(shoppingCartId, quantity));
+        return true;
+    }
+
+    @Override
+    public void discard(Long cartItemId) {
+        pending.remove(cartItemId);
+    }
+
+    @Override
+    public void flush(Long shoppingCartId) {
+        flush(quantity -> quantity.shoppingCartId().equals(shoppingCartId));
+    }
+
+    private void flush(Predicate<PendingQuantity> filter) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, PendingQuantity>> flushed = new ArrayList<>();
+            pending.forEach((cartItemId, quantity) -> {
+                if (filter.test(quantity)) {
+                    flushed.add(Map.entry(cartItemId, quantity));
+                }
+            });
+            transactionTemplate.executeWithoutResult(status -> flushed.forEach(entry ->
+                    cartItemRepository.updateQuantityByIdAndShoppingCartId(entry.getKey(),
+                            entry.getValue().shoppingCartId(), entry.getValue().quantity())));
+            flushed.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${cart.write-behind.flush-interval}")
+    @PreDestroy
+    public void flushAll() {
+        flush(quantity -> true);
+    }
+
+    private record PendingQuantity(Long shoppingCartId, int quantity) {
+    }
+}
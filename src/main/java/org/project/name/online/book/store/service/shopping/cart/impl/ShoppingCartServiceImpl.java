@@ -2,91 +2,79 @@ package org.project.name.online.book.store.service.shopping.cart.impl;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.dto.cart.item.CartItemDto;
 import org.project.name.online.book.store.dto.cart.item.CreateCartItemRequestDto;
 import org.project.name.online.book.store.dto.cart.item.UpdateCartItemRequestDto;
 import org.project.name.online.book.store.dto.shopping.cart.ShoppingCartDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.project.name.online.book.store.exception.EntityNotFoundException;
-import org.project.name.online.book.store.mapper.cart.item.CartItemMapper;
 import org.project.name.online.book.store.mapper.shopping.cart.ShoppingCartMapper;
-import org.project.name.online.book.store.model.Book;
-import org.project.name.online.book.store.model.CartItem;
-import org.project.name.online.book.store.model.ShoppingCart;
-import org.project.name.online.book.store.model.User;
-import org.project.name.online.book.store.repository.book.BookRepository;
 import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
-import org.project.name.online.book.store.repository.shopping.cart.ShoppingCartRepository;
-import org.project.name.online.book.store.repository.user.UserRepository;
+import org.project.name.online.book.store.service.shopping.cart.CartItemQuantityBuffer;
 import org.project.name.online.book.store.service.shopping.cart.ShoppingCartService;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class ShoppingCartServiceImpl implements ShoppingCartService {
-    private final UserRepository userRepository;
-    private final ShoppingCartRepository shoppingCartRepository;
-    private final BookRepository bookRepository;
     private final CartItemRepository cartItemRepository;
-    private final CartItemMapper cartItemMapper;
     private final ShoppingCartMapper shoppingCartMapper;
+    private final CartItemQuantityBuffer cartItemQuantityBuffer;
 
     @Override
-    public void save(String email, CreateCartItemRequestDto cartItemDto) {
-        ShoppingCart shoppingCart = getShoppingCartByEmail(email);
-        List<CartItem> cartItems = cartItemRepository.findAllByShoppingCartId(shoppingCart.getId());
-        for (CartItem cartItem : cartItems) {
-            if (cartItem.getBook().getId().equals(cartItemDto.getBookId())) {
-                cartItem.setQuantity(cartItem.getQuantity() + cartItemDto.getQuantity());
-                cartItemRepository.save(cartItem);
-                return;
-            }
+    @Transactional
+    public void save(UserIdentity identity, CreateCartItemRequestDto cartItemDto) {
+        Long shoppingCartId = identity.requireShoppingCartId();
+        cartItemQuantityBuffer.flush(shoppingCartId);
+        int affectedRows = cartItemRepository.upsert(
+                shoppingCartId, cartItemDto.getBookId(), cartItemDto.getQuantity());
+        if (affectedRows == 0) {
+            throw new EntityNotFoundException(
+                    "There is no book by id: " + cartItemDto.getBookId());
         }
-        Book book = bookRepository.findById(cartItemDto.getBookId()).orElseThrow(
-                () -> new EntityNotFoundException(
-                        "There is no book by id: " + cartItemDto.getBookId()));
-        CartItem cartItem = cartItemMapper.toEntity(shoppingCart, book, cartItemDto);
-        cartItemRepository.save(cartItem);
     }
 
     @Override
-    public ShoppingCartDto getCartByUserId(String email, Pageable pageable) {
-        ShoppingCart shoppingCart = getShoppingCartByEmail(email);
-        List<CartItem> cartItems
-                = cartItemRepository.findAllByShoppingCartId(shoppingCart.getId(), pageable);
-        return shoppingCartMapper.toDto(shoppingCart, cartItemMapper.toDtoList(cartItems));
+    public ShoppingCartDto getCartByUserId(UserIdentity identity, Pageable pageable) {
+        Long shoppingCartId = identity.requireShoppingCartId();
+        cartItemQuantityBuffer.flush(shoppingCartId);
+        List<CartItemDto> cartItems
+                = cartItemRepository.findAllDtoByShoppingCartId(shoppingCartId, pageable);
+        return shoppingCartMapper.toDto(identity, cartItems);
     }
 
     @Override
-    public void update(String email, Long cartItemId, UpdateCartItemRequestDto cartItemDto) {
-        ShoppingCart shoppingCart = getShoppingCartByEmail(email);
-        List<CartItem> cartItems = cartItemRepository.findAllByShoppingCartId(shoppingCart.getId());
-        cartItems.stream()
-                .filter(cartItem -> cartItem.getId().equals(cartItemId))
-                .findFirst()
-                .map(cartItem -> {
-                    cartItem.setQuantity(cartItemDto.getQuantity());
-                    return cartItemRepository.save(cartItem);
-                })
-                .orElseThrow(() -> new EntityNotFoundException(
-                        "There is no cart-item by id: " + cartItemId));
+    @Transactional
+    public void update(
+            UserIdentity identity,
+            Long cartItemId,
+            UpdateCartItemRequestDto cartItemDto
+    ) {
+        Long shoppingCartId = identity.requireShoppingCartId();
+        if (cartItemQuantityBuffer.offer(
+                shoppingCartId, cartItemId, cartItemDto.getQuantity())) {
+            return;
+        }
+        int affectedRows = cartItemRepository.updateQuantityByIdAndShoppingCartId(
+                cartItemId, shoppingCartId, cartItemDto.getQuantity());
+        checkCartItemFound(affectedRows, cartItemId);
     }
 
     @Override
-    public void delete(String email, Long cartItemId) {
-        cartItemRepository.findById(cartItemId).orElseThrow(
-                () -> new EntityNotFoundException("There is no cart-item by id: " + cartItemId));
-        ShoppingCart shoppingCart = getShoppingCartByEmail(email);
-        List<CartItem> cartItems = cartItemRepository.findAllByShoppingCartId(shoppingCart.getId());
-        cartItems.stream()
-                .filter(cartItem -> cartItem.getId().equals(cartItemId))
-                .forEach(cartItemRepository::delete);
+    @Transactional
+    public void delete(UserIdentity identity, Long cartItemId) {
+        Long shoppingCartId = identity.requireShoppingCartId();
+        int affectedRows
+                = cartItemRepository.deleteByIdAndShoppingCartId(cartItemId, shoppingCartId);
+        checkCartItemFound(affectedRows, cartItemId);
+        cartItemQuantityBuffer.discard(cartItemId);
     }
 
-    private ShoppingCart getShoppingCartByEmail(String email) {
-        User user = userRepository.findByEmail(email).orElseThrow(
-                () -> new EntityNotFoundException("There is no user by email: " + email));
-        return shoppingCartRepository.findByUserId(user.getId()).orElseThrow(
-                () -> new EntityNotFoundException(
-                        "There is no shopping cart by user id: " + user.getId()));
+    private void checkCartItemFound(int affectedRows, Long cartItemId) {
+        if (affectedRows == 0) {
+            throw new EntityNotFoundException("There is no cart-item by id: " + cartItemId);
+        }
     }
 }
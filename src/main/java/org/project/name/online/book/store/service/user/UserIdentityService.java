@@ -0,0 +1,9 @@
+package org.project.name.online.book.store.service.user;
+
+import org.project.name.online.book.store.dto.user.UserIdentity;
+
+public interface UserIdentityService {
+    UserIdentity getIdentity(String email);
+
+    void evictIdentity(String email);
+}
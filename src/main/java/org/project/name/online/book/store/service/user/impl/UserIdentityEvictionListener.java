@@ -0,0 +1,17 @@
+package org.project.name.online.book.store.service.user.impl;
+
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.model.User;
+import org.project.name.online.book.store.service.user.UserIdentityService;
+import org.springframework.beans.factory.ObjectProvider;
+
+@RequiredArgsConstructor
+public class UserIdentityEvictionListener {
+    private final ObjectProvider<UserIdentityService> userIdentityService;
+
+    @PostRemove
+    public void evictIdentity(User user) {
+        userIdentityService.ifAvailable(service -> service.evictIdentity(user.getEmail()));
+    }
+}
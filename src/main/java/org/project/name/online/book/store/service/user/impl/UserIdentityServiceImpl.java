@@ -0,0 +1,33 @@
+package org.project.name.online.book.store.service.user.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.project.name.online.book.store.config.CacheConfig;
+import org.project.name.online.book.store.dto.user.UserIdentity;
+import org.project.name.online.book.store.exception.EntityNotFoundException;
+import org.project.name.online.book.store.repository.user.UserRepository;
+import org.project.name.online.book.store.service.user.UserIdentityService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Service
+public class UserIdentityServiceImpl implements UserIdentityService {
+    private final UserRepository userRepository;
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USER_IDENTITIES_CACHE, key = "#email",
+            unless = "#result.shoppingCartId() == null")
+    @Transactional(readOnly = true)
+    public UserIdentity getIdentity(String email) {
+        UserIdentity identity = userRepository.findIdentityByEmail(email).orElseThrow(
+                () -> new EntityNotFoundException("There is no user by email: " + email));
+        return identity.withRoles(userRepository.findRoleNamesById(identity.userId()));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USER_IDENTITIES_CACHE, key = "#email")
+    public void evictIdentity(String email) {
+    }
+}
@@ -0,0 +1,77 @@
+package org.project.name.online.book.store.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.book.BookSpecificationBuilder;
+import org.project.name.online.book.store.repository.book.BookSpecificationProviderManager;
+import org.project.name.online.book.store.repository.book.spec.AuthorSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.CategorySpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.FullTextSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.KeywordSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.PriceSpecificationProvider;
+import org.springframework.data.jpa.domain.Specification;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSpecificationBuilderBenchmark {
+    private static final int DISTINCT_SHAPES = 5000;
+    private BookSpecificationBuilder bookSpecificationBuilder;
+    private BookSearchParameters popularSearch;
+    private BookSearchParameters[] distinctSearches;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        bookSpecificationBuilder = new BookSpecificationBuilder(
+                new BookSpecificationProviderManager(List.of(
+                        new AuthorSpecificationProvider(),
+                        new PriceSpecificationProvider(),
+                        new CategorySpecificationProvider(),
+                        new FullTextSpecificationProvider(),
+                        new KeywordSpecificationProvider())));
+        popularSearch = new BookSearchParameters(new String[]{"Author2", "Author1", "Author1"},
+                new String[]{"10", "25.50"}, new String[]{"3", "1"}, null, null);
+        distinctSearches = new BookSearchParameters[DISTINCT_SHAPES];
+        for (int i = 0; i < DISTINCT_SHAPES; i++) {
+            distinctSearches[i] = new BookSearchParameters(new String[]{"Author" + i},
+                    new String[]{String.valueOf(i), String.valueOf(i + 10)}, null, null, null);
+        }
+    }
+
+    @Benchmark
+    public Specification<Book> buildRepeatedSearch() {
+        return bookSpecificationBuilder.build(popularSearch);
+    }
+
+    @Benchmark
+    public Specification<Book> buildDistinctSearches() {
+        next = (next + 1) % DISTINCT_SHAPES;
+        return bookSpecificationBuilder.build(distinctSearches[next]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BookSpecificationBuilderBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,49 @@
+package org.project.name.online.book.store.config;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+class PatternAsyncTimeoutInterceptorTest {
+    private static final String PATTERN = "/books/export";
+    private static final long TIMEOUT = 60000;
+    private final PatternAsyncTimeoutInterceptor interceptor
+            = new PatternAsyncTimeoutInterceptor(PATTERN, TIMEOUT);
+
+    @Test
+    @DisplayName("beforeConcurrentHandling. Set the timeout of a request to the matched pattern")
+    void beforeConcurrentHandling_MatchingPattern_SetsTimeout() {
+        AsyncWebRequest request = createRequest(PATTERN);
+
+        interceptor.beforeConcurrentHandling(request, () -> null);
+
+        verify(request, times(1)).setTimeout(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("beforeConcurrentHandling. Keep the default timeout of other requests")
+    void beforeConcurrentHandling_OtherPattern_KeepsTimeout() {
+        AsyncWebRequest request = createRequest("/books/{id}");
+
+        interceptor.beforeConcurrentHandling(request, () -> null);
+
+        verify(request, never()).setTimeout(TIMEOUT);
+    }
+
+    private AsyncWebRequest createRequest(String pattern) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        AsyncWebRequest request = mock(AsyncWebRequest.class);
+        when(request.getNativeRequest(HttpServletRequest.class)).thenReturn(servletRequest);
+        return request;
+    }
+}
@@ -0,0 +1,16 @@
+package org.project.name.online.book.store.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.security.test.context.support.WithSecurityContext;
+
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@WithSecurityContext(factory = WithMockUserIdentitySecurityContextFactory.class)
+public @interface WithMockUserIdentity {
+    String username();
+
+    String[] roles() default "USER";
+}
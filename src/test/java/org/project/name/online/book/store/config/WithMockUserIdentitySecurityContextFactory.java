@@ -0,0 +1,30 @@
+package org.project.name.online.book.store.config;
+
+import java.util.Arrays;
+import java.util.List;
+import org.project.name.online.book.store.dto.user.UserIdentity;
+import org.project.name.online.book.store.service.user.UserIdentityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithSecurityContextFactory;
+
+public class WithMockUserIdentitySecurityContextFactory
+        implements WithSecurityContextFactory<WithMockUserIdentity> {
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Override
+    public SecurityContext createSecurityContext(WithMockUserIdentity annotation) {
+        UserIdentity identity = userIdentityService.getIdentity(annotation.username());
+        List<SimpleGrantedAuthority> authorities = Arrays.stream(annotation.roles())
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(
+                new UsernamePasswordAuthenticationToken(identity, null, authorities));
+        return context;
+    }
+}
@@ -2,19 +2,25 @@ package org.project.name.online.book.store.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import javax.sql.DataSource;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.AfterAll;
@@ -22,8 +28,12 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.project.name.online.book.store.dto.book.BookDto;
+import org.project.name.online.book.store.dto.book.BookFacetDto;
+import org.project.name.online.book.store.dto.book.BookFacetsDto;
+import org.project.name.online.book.store.dto.book.BookSearchResultDto;
 import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
 import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
@@ -40,6 +50,7 @@ import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class BookControllerIntegrationTest {
     protected static MockMvc mockMvc;
+    private static final long EXPORT_TIMEOUT = 60000;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -145,6 +156,74 @@ class BookControllerIntegrationTest {
         assertEquals(expected, Arrays.stream(actual).toList());
     }
 
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Get all books page by page with a cursor")
+    void getAll_WithCursor_RespondNextCursorUntilTheLastPage() throws Exception {
+        List<BookDto> expected = createExpectedDtoList();
+
+        MvcResult firstPage = mockMvc.perform(get("/books")
+                        .param("after", "")
+                        .param("size", "1")
+                        .param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String cursor = firstPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+        MvcResult secondPage = mockMvc.perform(get("/books")
+                        .param("after", cursor)
+                        .param("size", "2")
+                        .param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andReturn();
+        BookDto[] first = objectMapper.readValue(
+                firstPage.getResponse().getContentAsString(), BookDto[].class
+        );
+        BookDto[] second = objectMapper.readValue(
+                secondPage.getResponse().getContentAsString(), BookDto[].class
+        );
+
+        assertNotNull(cursor);
+        assertEquals(List.of(expected.get(0)), Arrays.stream(first).toList());
+        assertEquals(List.of(expected.get(1)), Arrays.stream(second).toList());
+        assertNull(secondPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER));
+    }
+
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("getAll. Receive bad request status since the cursor is malformed")
+    void getAll_MalformedCursor_RespondStatusBadRequest() throws Exception {
+        mockMvc.perform(get("/books").param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Get all books with the requested fields only")
+    void getAll_WithFields_RespondOnlyRequestedFields() throws Exception {
+        List<BookDto> expected = createExpectedDtoList();
+
+        MvcResult result = mockMvc.perform(get("/books").param("fields", "id,title,price"))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<Map<String, Object>> actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), new TypeReference<>() {}
+        );
+
+        assertEquals(2, actual.size());
+        for (int i = 0; i < actual.size(); i++) {
+            assertEquals(Set.of("id", "title", "price"), actual.get(i).keySet());
+            assertEquals(expected.get(i).getTitle(), actual.get(i).get("title"));
+        }
+    }
+
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("getAll. Receive bad request status since a field is unknown")
+    void getAll_UnknownField_RespondStatusBadRequest() throws Exception {
+        mockMvc.perform(get("/books").param("fields", "id,publisher"))
+                .andExpect(status().isBadRequest());
+    }
+
     @WithMockUser(username = "admin", roles = "ADMIN")
     @Test
     @Sql(scripts = "classpath:database/books/controller/updateBook/"
@@ -171,6 +250,40 @@ class BookControllerIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
     }
 
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Search a book by words of its title")
+    void searchBook_FullTextQuery_RespondStatusOk() throws Exception {
+        List<BookDto> expected = createExpectedListAfterSearchBook();
+
+        MvcResult result = mockMvc.perform(get("/books/search")
+                        .param("q", "Title2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        BookDto[] actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookDto[].class
+        );
+
+        assertEquals(expected, Arrays.stream(actual).toList());
+    }
+
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Search a book by whole keywords of its title")
+    void searchBook_Keywords_RespondStatusOk() throws Exception {
+        List<BookDto> expected = createExpectedListAfterSearchBook();
+
+        MvcResult result = mockMvc.perform(get("/books/search")
+                        .param("keywords", "TITLE2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        BookDto[] actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookDto[].class
+        );
+
+        assertEquals(expected, Arrays.stream(actual).toList());
+    }
+
     @WithMockUser(username = "user", roles = "USER")
     @Test
     @DisplayName("Search a book with search parameters")
@@ -190,6 +303,47 @@ class BookControllerIntegrationTest {
         assertEquals(expected, Arrays.stream(actual).toList());
     }
 
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Search a book by category combined with authors")
+    void searchBook_ByCategoryAndAuthors_RespondStatusOk() throws Exception {
+        List<BookDto> expected = createExpectedListAfterSearchBook();
+
+        MvcResult result = mockMvc.perform(get("/books/search")
+                        .param("authors", "Author1", "Author2")
+                        .param("categories", "2"))
+                .andExpect(status().isOk())
+                .andReturn();
+        BookDto[] actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookDto[].class
+        );
+
+        assertEquals(expected, Arrays.stream(actual).toList());
+    }
+
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Search books with facet counts")
+    void searchBookWithFacets_ValidSearchParameters_RespondStatusOk() throws Exception {
+        BookFacetsDto expected = new BookFacetsDto(
+                List.of(new BookFacetDto("Author1", 1L), new BookFacetDto("Author2", 1L)),
+                List.of(new BookFacetDto("Test name1", 1L), new BookFacetDto("Test name2", 1L)),
+                List.of(new BookFacetDto("50-100", 2L))
+        );
+
+        MvcResult result = mockMvc.perform(get("/books/search")
+                        .param("prices", "90,100")
+                        .param("facets", "true"))
+                .andExpect(status().isOk())
+                .andReturn();
+        BookSearchResultDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookSearchResultDto.class
+        );
+
+        assertEquals(2, actual.getBooks().size());
+        assertEquals(expected, actual.getFacets());
+    }
+
     @WithMockUser(username = "admin", roles = "ADMIN")
     @Test
     @Sql(scripts = "classpath:database/books/controller/deleteBook/"
@@ -221,6 +375,26 @@ class BookControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @DisplayName("Export all books as NDJSON")
+    void exportBooks_WhichExistInDb_StreamOneBookPerLine() throws Exception {
+        List<BookDto> expected = createExpectedDtoList();
+
+        MvcResult asyncResult = mockMvc.perform(get("/books/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(EXPORT_TIMEOUT, asyncResult.getRequest().getAsyncContext().getTimeout());
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<BookDto> actual = result.getResponse().getContentAsString().lines()
+                .map(this::readBookDto)
+                .toList();
+
+        assertEquals(expected, actual);
+    }
+
     @WithMockUser(username = "user", roles = "USER")
     @Test
     @DisplayName("getBookById. Receive bad request status since id is less than 1")
@@ -356,4 +530,9 @@ class BookControllerIntegrationTest {
         expectedDto.setCategoryIds(List.of("Test name2"));
         return List.of(expectedDto);
     }
+
+    @SneakyThrows
+    private BookDto readBookDto(String json) {
+        return objectMapper.readValue(json, BookDto.class);
+    }
 }
@@ -0,0 +1,68 @@
+package org.project.name.online.book.store.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.service.book.BookImportService;
+import org.project.name.online.book.store.service.book.BookService;
+import org.project.name.online.book.store.service.count.impl.TotalCountServiceImpl;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class BookControllerTest {
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+    @Mock
+    private BookService bookService;
+    @Mock
+    private BookImportService bookImportService;
+    @Mock
+    private BookSuggestService bookSuggestService;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    private TotalCountServiceImpl totalCountService;
+    private BookController bookController;
+
+    @BeforeEach
+    void setUp() {
+        totalCountService = new TotalCountServiceImpl(bookRepository, categoryRepository);
+        bookController = new BookController(bookService, bookImportService, totalCountService,
+                bookSuggestService);
+        when(bookService.findAll(PAGEABLE, BookFields.ALL)).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("getAll. Leave out X-Total-Count until the count is first refreshed")
+    void getAll_BeforeFirstRefresh_OmitsTotalCountHeader() {
+        HttpHeaders headers = bookController.getAll(PAGEABLE, null, null).getHeaders();
+
+        assertFalse(headers.containsKey(ResponseHeaders.TOTAL_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("getAll. Send the refreshed total in X-Total-Count")
+    void getAll_AfterRefresh_SendsTotalCountHeader() {
+        when(bookRepository.count()).thenReturn(42L);
+        when(categoryRepository.count()).thenReturn(3L);
+        totalCountService.refresh();
+
+        HttpHeaders headers = bookController.getAll(PAGEABLE, null, null).getHeaders();
+
+        assertEquals("42", headers.getFirst(ResponseHeaders.TOTAL_COUNT_HEADER));
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.config.WithMockUserIdentity;
 import org.project.name.online.book.store.dto.cart.item.CartItemDto;
 import org.project.name.online.book.store.dto.cart.item.CreateCartItemRequestDto;
 import org.project.name.online.book.store.dto.cart.item.UpdateCartItemRequestDto;
@@ -28,7 +29,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -89,7 +89,7 @@ class CartControllerIntegrationTest {
         }
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @Sql(scripts = "classpath:database/shopping_carts/controller/addBookToCart/"
             + "remove-cart-items-before-test.sql",
@@ -117,7 +117,7 @@ class CartControllerIntegrationTest {
         );
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @Sql(scripts = "classpath:database/shopping_carts/controller/getShoppingCart/"
             + "add-cart-item-to-cart_items.sql",
@@ -136,7 +136,7 @@ class CartControllerIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @Sql(scripts = "classpath:database/shopping_carts/controller/updateCartItemById/"
             + "add-cart-item-to-cart_items-table.sql",
@@ -162,7 +162,7 @@ class CartControllerIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @Sql(scripts = "classpath:database/shopping_carts/controller/deleteCartItemById/"
             + "add-cart-item-to-cart_items.sql",
@@ -183,7 +183,7 @@ class CartControllerIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @DisplayName("addBookToCart. Receive bad request status since dto isn't valid")
     void addBookToCart_NotValidRequestDto_RespondStatusBadRequest() throws Exception {
@@ -197,7 +197,7 @@ class CartControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @DisplayName("updateCartItemById. Receive bad request status since dto isn't valid")
     void updateCartItemById_NotValidRequestDto_RespondStatusBadRequest() throws Exception {
@@ -211,7 +211,7 @@ class CartControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @DisplayName("updateCartItemById. Receive bad request status since id is less than 1")
     void updateCartItemById_NotValidId_RespondStatusBadRequest() throws Exception {
@@ -219,7 +219,7 @@ class CartControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
-    @WithMockUser(username = "email@com", roles = "USER")
+    @WithMockUserIdentity(username = "email@com")
     @Test
     @DisplayName("deleteCartItemById. Receive bad request status since id is less than 1")
     void deleteCartItemById_NotValidId_RespondStatusBadRequest() throws Exception {
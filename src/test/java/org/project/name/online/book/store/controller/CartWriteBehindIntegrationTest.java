@@ -0,0 +1,113 @@
+package org.project.name.online.book.store.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.config.WithMockUserIdentity;
+import org.project.name.online.book.store.dto.cart.item.CreateCartItemRequestDto;
+import org.project.name.online.book.store.dto.cart.item.UpdateCartItemRequestDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "cart.write-behind.enabled=true")
+class CartWriteBehindIntegrationTest {
+    protected static MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void beforeAll(
+            @Autowired DataSource dataSource,
+            @Autowired WebApplicationContext applicationContext
+    ) throws SQLException {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+        teardown(dataSource);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("database/shopping_carts/controller/"
+                            + "add-book-to-books-table.sql")
+            );
+            ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("database/shopping_carts/controller/"
+                            + "add-shopping-cart-to-shopping_carts-table.sql")
+            );
+            ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("database/shopping_carts/controller/"
+                            + "add-user-to-users-table.sql")
+            );
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    @SneakyThrows
+    private static void teardown(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("database/shopping_carts/controller/"
+                            + "remove-everything-after-tests.sql")
+            );
+        }
+    }
+
+    @WithMockUserIdentity(username = "email@com")
+    @Test
+    @Sql(scripts = "classpath:database/shopping_carts/controller/updateCartItemById/"
+            + "add-cart-item-to-cart_items-table.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @DisplayName("Keep a buffered quantity when adding a missing book to the cart fails")
+    void addBookToCart_MissingBookAfterBufferedUpdate_KeepsBufferedQuantity() throws Exception {
+        UpdateCartItemRequestDto updateRequest = new UpdateCartItemRequestDto();
+        updateRequest.setQuantity(25);
+        mockMvc.perform(put("/cart/cart-items/3")
+                        .content(objectMapper.writeValueAsString(updateRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted());
+        CreateCartItemRequestDto addRequest = new CreateCartItemRequestDto();
+        addRequest.setBookId(100L);
+        addRequest.setQuantity(1);
+
+        mockMvc.perform(post("/cart")
+                        .content(objectMapper.writeValueAsString(addRequest))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        assertEquals(25, jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_items WHERE id = 3", Integer.class));
+    }
+}
@@ -2,6 +2,7 @@ package org.project.name.online.book.store.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
 import org.project.name.online.book.store.dto.category.CategoryDto;
 import org.project.name.online.book.store.dto.category.CreateCategoryRequestDto;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
@@ -198,6 +200,47 @@ class CategoryControllerIntegrationTest {
         assertEquals(expected, Arrays.stream(actual).toList());
     }
 
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @Sql(scripts = "classpath:database/categories/controller/getBooksByCategoryIdWithCursor/"
+            + "add-everything-for-test.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/categories/controller/getBooksByCategoryIdWithCursor/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Get books by category id page by page with a price cursor")
+    void getBooksByCategoryId_WithPriceCursor_RespondEveryBookOnce() throws Exception {
+        MvcResult firstPage = getBooksByCategory("", 1, "price,desc");
+        String cursor = firstPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+        MvcResult secondPage = getBooksByCategory(cursor, 2, "price,desc");
+
+        assertNotNull(cursor);
+        assertEquals(List.of(3L), bookIds(firstPage));
+        assertEquals(List.of(1L, 2L), bookIds(secondPage));
+        assertNull(secondPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER));
+    }
+
+    @WithMockUser(username = "user", roles = "USER")
+    @Test
+    @Sql(scripts = "classpath:database/categories/controller/getBooksByCategoryIdWithCursor/"
+            + "add-everything-for-test.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/categories/controller/getBooksByCategoryIdWithCursor/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("getBooksByCategoryId. Receive bad request status since the cursor "
+            + "doesn't match the sort")
+    void getBooksByCategoryId_CursorOfAnotherSort_RespondStatusBadRequest() throws Exception {
+        MvcResult firstPage = getBooksByCategory("", 1, "price,desc");
+        String cursor = firstPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/categories/1/books")
+                        .param("after", cursor)
+                        .param("size", "1")
+                        .param("sort", "title,desc"))
+                .andExpect(status().isBadRequest());
+    }
+
     @WithMockUser(username = "admin", roles = "ADMIN")
     @Test
     @DisplayName("createCategory. Receive bad request status since dto isn't valid")
@@ -258,6 +301,24 @@ class CategoryControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    private MvcResult getBooksByCategory(String after, int size, String sort) throws Exception {
+        return mockMvc.perform(get("/categories/1/books")
+                        .param("after", after)
+                        .param("size", String.valueOf(size))
+                        .param("sort", sort))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private List<Long> bookIds(MvcResult result) throws Exception {
+        BookDtoWithoutCategoryIds[] books = objectMapper.readValue(
+                result.getResponse().getContentAsString(), BookDtoWithoutCategoryIds[].class
+        );
+        return Arrays.stream(books)
+                .map(BookDtoWithoutCategoryIds::getId)
+                .toList();
+    }
+
     private CreateCategoryRequestDto createCategoryDto() {
         CreateCategoryRequestDto requestDto = new CreateCategoryRequestDto();
         requestDto.setName("Test name");
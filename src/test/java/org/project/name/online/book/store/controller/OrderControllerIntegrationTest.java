@@ -0,0 +1,161 @@
+package org.project.name.online.book.store.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.config.WithMockUserIdentity;
+import org.project.name.online.book.store.dto.keyset.KeysetSlice;
+import org.project.name.online.book.store.dto.order.OrderDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class OrderControllerIntegrationTest {
+    protected static MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void beforeAll(
+            @Autowired DataSource dataSource,
+            @Autowired WebApplicationContext applicationContext
+    ) throws SQLException {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(applicationContext)
+                .apply(springSecurity())
+                .build();
+        teardown(dataSource);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("database/orders/controller/"
+                            + "add-user-to-users-table.sql")
+            );
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) {
+        teardown(dataSource);
+    }
+
+    @SneakyThrows
+    private static void teardown(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(
+                    connection,
+                    new ClassPathResource("database/orders/controller/"
+                            + "remove-everything-after-tests.sql")
+            );
+        }
+    }
+
+    @WithMockUserIdentity(username = "email@com")
+    @Test
+    @Sql(scripts = "classpath:database/orders/controller/getAllOrders/"
+            + "add-orders-to-orders-table.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/orders/controller/getAllOrders/"
+            + "remove-orders-from-orders-table.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Get all orders page by page with an order date cursor")
+    void getAllOrders_WithOrderDateCursor_RespondEveryOrderOnce() throws Exception {
+        MvcResult firstPage = getOrders("", 2, "orderDate,asc");
+        String cursor = firstPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+        MvcResult secondPage = getOrders(cursor, 2, "orderDate,asc");
+
+        assertNotNull(cursor);
+        assertEquals(List.of(1L, 3L), orderIds(firstPage));
+        assertEquals(List.of(2L), orderIds(secondPage));
+        assertNull(secondPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER));
+    }
+
+    @WithMockUserIdentity(username = "email@com")
+    @Test
+    @Sql(scripts = "classpath:database/orders/controller/getAllOrders/"
+            + "add-orders-to-orders-table.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/orders/controller/getAllOrders/"
+            + "remove-orders-from-orders-table.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("Get orders with the same order date across pages ordered by id")
+    void getAllOrders_SameOrderDateAcrossPages_RespondOrdersByIdWithinTheDate()
+            throws Exception {
+        MvcResult firstPage = getOrders("", 1, "orderDate,asc");
+        String firstCursor = firstPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+        MvcResult secondPage = getOrders(firstCursor, 1, "orderDate,asc");
+        String secondCursor = secondPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+        MvcResult thirdPage = getOrders(secondCursor, 1, "orderDate,asc");
+
+        assertEquals(List.of(1L), orderIds(firstPage));
+        assertEquals(List.of(3L), orderIds(secondPage));
+        assertEquals(List.of(2L), orderIds(thirdPage));
+    }
+
+    @WithMockUserIdentity(username = "email@com")
+    @Test
+    @Sql(scripts = "classpath:database/orders/controller/getAllOrders/"
+            + "add-orders-to-orders-table.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/orders/controller/getAllOrders/"
+            + "remove-orders-from-orders-table.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    @DisplayName("getAllOrders. Receive bad request status since the cursor doesn't match the sort")
+    void getAllOrders_CursorOfAnotherSort_RespondStatusBadRequest() throws Exception {
+        MvcResult firstPage = getOrders("", 1, "orderDate,asc");
+        String cursor = firstPage.getResponse().getHeader(KeysetSlice.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/orders")
+                        .param("after", cursor)
+                        .param("size", "1")
+                        .param("sort", "orderDate,desc"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/orders")
+                        .param("after", cursor)
+                        .param("size", "1")
+                        .param("sort", "id,asc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult getOrders(String after, int size, String sort) throws Exception {
+        return mockMvc.perform(get("/orders")
+                        .param("after", after)
+                        .param("size", String.valueOf(size))
+                        .param("sort", sort))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private List<Long> orderIds(MvcResult result) throws Exception {
+        OrderDto[] orders = objectMapper.readValue(
+                result.getResponse().getContentAsString(), OrderDto[].class
+        );
+        return Arrays.stream(orders)
+                .map(OrderDto::getId)
+                .toList();
+    }
+}
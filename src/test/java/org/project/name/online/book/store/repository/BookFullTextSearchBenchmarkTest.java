@@ -0,0 +1,122 @@
+package org.project.name.online.book.store.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.book.spec.FullTextSpecificationProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BookFullTextSearchBenchmarkTest {
+    private static final int CATALOG_SIZE = 1_000_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+    private static final String WORD = "zephyr";
+    private static final int RELEVANT_BOOKS = 3;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeAll
+    static void beforeAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("SET SESSION cte_max_recursion_depth = " + CATALOG_SIZE);
+            statement.execute("INSERT INTO books "
+                    + "(title, author, isbn, price, description, cover_image, is_deleted) "
+                    + "WITH RECURSIVE seq (n) AS "
+                    + "(SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < " + CATALOG_SIZE + ") "
+                    + "SELECT CONCAT('Title ', n, ' ', "
+                    + "IF(n % 10000 = 0, '" + WORD + "', 'ordinary')), "
+                    + "CONCAT('Author ', n % 1000), CONCAT('bench-', n), 10 + n % 90, "
+                    + "CONCAT('Description of the seeded book number ', n), NULL, false "
+                    + "FROM seq");
+            for (int i = 1; i <= RELEVANT_BOOKS; i++) {
+                statement.execute("INSERT INTO books "
+                        + "(title, author, isbn, price, description, cover_image, is_deleted) "
+                        + "VALUES ('Relevant " + i + "', 'Author', 'bench-relevant-" + i
+                        + "', 10, '" + (" " + WORD).repeat(i + 1).trim() + "', NULL, false)");
+            }
+        }
+    }
+
+    @AfterAll
+    static void afterAll(@Autowired DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("DELETE FROM books WHERE isbn LIKE 'bench-%'");
+        }
+    }
+
+    @Test
+    @DisplayName("Compare FULLTEXT relevance search with a LIKE scan over 1M books")
+    void search_FullTextAndLike_ReturnSameRowsAndLogTimings() {
+        Specification<Book> fullText = new FullTextSpecificationProvider()
+                .getSpecification(new String[]{WORD});
+        Specification<Book> like = (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.like(root.get("title"), "%" + WORD + "%"),
+                criteriaBuilder.like(root.get("description"), "%" + WORD + "%"));
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("id"));
+
+        List<Long> fullTextIds = bookRepository.findIds(fullText, pageable);
+        List<Long> likeIds = bookRepository.findIds(like, pageable);
+        double fullTextMillis = measure(() -> bookRepository.findIds(fullText, pageable));
+        double likeMillis = measure(() -> bookRepository.findIds(like, pageable));
+
+        assertEquals(likeIds, fullTextIds);
+        log.info("FULLTEXT: {} ms, LIKE: {} ms per query over {} books",
+                String.format("%.2f", fullTextMillis), String.format("%.2f", likeMillis),
+                CATALOG_SIZE);
+    }
+
+    @Test
+    @DisplayName("Order FULLTEXT matches by relevance when no sort is requested")
+    void search_FullTextWithoutSort_ReturnsMostRelevantFirst() {
+        Specification<Book> fullText = new FullTextSpecificationProvider()
+                .getSpecification(new String[]{WORD});
+        List<Long> expected = new ArrayList<>();
+        for (int i = RELEVANT_BOOKS; i >= 1; i--) {
+            expected.add(bookRepository.findByIsbn("bench-relevant-" + i).orElseThrow().getId());
+        }
+
+        List<Long> actual = bookRepository.findIds(fullText, PageRequest.of(0, RELEVANT_BOOKS));
+
+        assertEquals(expected, actual);
+    }
+
+    private double measure(Supplier<List<Long>> search) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_RUNS;
+    }
+}
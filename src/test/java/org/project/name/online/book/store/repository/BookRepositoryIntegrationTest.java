@@ -8,6 +8,10 @@ import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.config.SqlStatementCollector;
+import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookFacetDto;
+import org.project.name.online.book.store.dto.book.BookFacetsDto;
 import org.project.name.online.book.store.exception.EntityNotFoundException;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.model.Category;
@@ -17,12 +21,19 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory."
+        + "statement_inspector=org.project.name.online.book.store.config.SqlStatementCollector")
 class BookRepositoryIntegrationTest {
+    private static final String LIMIT_WITH_OFFSET = "(?s).*\\blimit\\s+\\?\\s*,\\s*\\?.*";
+
     @Autowired
     private BookRepository bookRepository;
 
@@ -65,10 +76,10 @@ class BookRepositoryIntegrationTest {
             + "remove-everything-after-test.sql",
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void findAllByCategoryId_ExistentCategoryId_ReturnsBooks() {
-        List<Book> expected = createExpectedListOfBook();
+        List<BookDtoWithoutCategoryIds> expected = createExpectedListOfDto();
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<Book> actual = bookRepository.findAllByCategoryId(1L, pageable);
+        List<BookDtoWithoutCategoryIds> actual = bookRepository.findAllByCategoryId(1L, pageable);
 
         Assertions.assertNotNull(actual);
         Assertions.assertNotNull(actual.get(0));
@@ -93,10 +104,10 @@ class BookRepositoryIntegrationTest {
             + "remove-everything-after-test.sql",
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void findAllByCategoryId_ExistentCategoryId_ReturnsBook() {
-        List<Book> expected = createBookListOfOneBook();
+        List<BookDtoWithoutCategoryIds> expected = createDtoListOfOneDto();
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<Book> actual = bookRepository.findAllByCategoryId(2L, pageable);
+        List<BookDtoWithoutCategoryIds> actual = bookRepository.findAllByCategoryId(2L, pageable);
 
         Assertions.assertNotNull(actual);
         Assertions.assertNotNull(actual.get(0));
@@ -104,6 +115,56 @@ class BookRepositoryIntegrationTest {
         Assertions.assertTrue(EqualsBuilder.reflectionEquals(expected.get(0), actual.get(0)));
     }
 
+    @Test
+    @DisplayName("Find a page of book ids paged by the database")
+    @Sql(scripts = {
+            "classpath:database/books/repository/findAllByCategoryId/"
+                    + "add-books-with-category-to-books-table.sql",
+            "classpath:database/books/repository/findAllByCategoryId/"
+                    + "add-book_category-pairs-to-books_categories.sql",
+            "classpath:database/books/repository/findAllByCategoryId/"
+                    + "add-categories-to-categories-table.sql"
+    },
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/books/repository/findAllByCategoryId/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findIds_SecondPage_UsesLimitAndOffset() {
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("id"));
+        SqlStatementCollector.clear();
+
+        List<Long> actual = bookRepository.findIds(Specification.where(null), pageable);
+
+        List<String> statements = SqlStatementCollector.getStatements();
+        Assertions.assertEquals(List.of(3L), actual);
+        Assertions.assertEquals(1, statements.size());
+        String sql = statements.get(0).toLowerCase();
+        Assertions.assertTrue(sql.matches(LIMIT_WITH_OFFSET), sql);
+        Assertions.assertFalse(sql.contains("books_categories"), sql);
+    }
+
+    @Test
+    @DisplayName("Count books per price bucket in the database")
+    @Sql(scripts = "classpath:database/books/repository/countFacets/"
+            + "add-books-to-books-table.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/books/repository/countFacets/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void countFacets_BooksInSeveralPriceBuckets_ReturnsOneRowPerBucket() {
+        SqlStatementCollector.clear();
+
+        BookFacetsDto actual = bookRepository.countFacets(Specification.where(null));
+
+        Assertions.assertEquals(List.of(
+                new BookFacetDto("0-10", 1L),
+                new BookFacetDto("25-50", 2L),
+                new BookFacetDto("100-", 1L)
+        ), actual.getPrices());
+        Assertions.assertTrue(SqlStatementCollector.getStatements().stream()
+                .anyMatch(sql -> sql.toLowerCase().contains("case when")));
+    }
+
     @Test
     @DisplayName("Returns optional empty since book with given isbn doesn't exist")
     void findByIsbn_NonExistentIsbn_ReturnsOptionalEmpty() {
@@ -136,7 +197,8 @@ class BookRepositoryIntegrationTest {
         List<Object> expected = Collections.emptyList();
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<Book> actual = bookRepository.findAllByCategoryId(categoryId, pageable);
+        List<BookDtoWithoutCategoryIds> actual
+                = bookRepository.findAllByCategoryId(categoryId, pageable);
 
         Assertions.assertNotNull(actual);
         Assertions.assertEquals(expected, actual);
@@ -148,7 +210,8 @@ class BookRepositoryIntegrationTest {
         List<Object> expected = Collections.emptyList();
         Pageable pageable = PageRequest.of(0, 10);
 
-        List<Book> actual = bookRepository.findAllByCategoryId(null, pageable);
+        List<BookDtoWithoutCategoryIds> actual
+                = bookRepository.findAllByCategoryId(null, pageable);
 
         Assertions.assertNotNull(actual);
         Assertions.assertEquals(expected, actual);
@@ -171,46 +234,16 @@ class BookRepositoryIntegrationTest {
         return expected;
     }
 
-    private List<Book> createExpectedListOfBook() {
-        Category category = new Category();
-        category.setId(1L);
-        category.setName("Test name");
-        category.setDescription("Test name descr.");
-        Book first = new Book();
-        first.setId(1L);
-        first.setTitle("Title");
-        first.setAuthor("Author");
-        first.setIsbn("123456789");
-        first.setPrice(BigDecimal.valueOf(99.99));
-        first.setDescription("Descr.");
-        first.setCoverImage("Image");
-        first.setCategories(Set.of(category));
-        Book second = new Book();
-        second.setId(2L);
-        second.setTitle("Title2");
-        second.setAuthor("Author2");
-        second.setIsbn("123456789(2)");
-        second.setPrice(BigDecimal.valueOf(98.99));
-        second.setDescription("Descr.2");
-        second.setCoverImage("Image2");
-        second.setCategories(Set.of(category));
+    private List<BookDtoWithoutCategoryIds> createExpectedListOfDto() {
+        BookDtoWithoutCategoryIds first = new BookDtoWithoutCategoryIds(
+                1L, "Title", "Author", "123456789", 99.99, "Descr.", "Image");
+        BookDtoWithoutCategoryIds second = new BookDtoWithoutCategoryIds(
+                2L, "Title2", "Author2", "123456789(2)", 98.99, "Descr.2", "Image2");
         return List.of(first, second);
     }
 
-    private List<Book> createBookListOfOneBook() {
-        Category category = new Category();
-        category.setId(2L);
-        category.setName("Test name2");
-        category.setDescription("Test name descr.2");
-        Book book = new Book();
-        book.setId(3L);
-        book.setTitle("Title3");
-        book.setAuthor("Author3");
-        book.setIsbn("123456789(3)");
-        book.setPrice(BigDecimal.valueOf(97.99));
-        book.setDescription("Descr.3");
-        book.setCoverImage("Image3");
-        book.setCategories(Set.of(category));
-        return List.of(book);
+    private List<BookDtoWithoutCategoryIds> createDtoListOfOneDto() {
+        return List.of(new BookDtoWithoutCategoryIds(
+                3L, "Title3", "Author3", "123456789(3)", 97.99, "Descr.3", "Image3"));
     }
 }
@@ -0,0 +1,63 @@
+package org.project.name.online.book.store.repository;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.exception.SearchParameterException;
+import org.project.name.online.book.store.repository.book.BookSpecificationBuilder;
+import org.project.name.online.book.store.repository.book.BookSpecificationProviderManager;
+import org.project.name.online.book.store.repository.book.spec.AuthorSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.CategorySpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.FullTextSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.KeywordSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.PriceSpecificationProvider;
+
+class BookSpecificationBuilderTest {
+    private BookSpecificationBuilder bookSpecificationBuilder;
+
+    @BeforeEach
+    void setUp() {
+        bookSpecificationBuilder = new BookSpecificationBuilder(
+                new BookSpecificationProviderManager(List.of(
+                        new AuthorSpecificationProvider(),
+                        new PriceSpecificationProvider(),
+                        new CategorySpecificationProvider(),
+                        new FullTextSpecificationProvider(),
+                        new KeywordSpecificationProvider())));
+    }
+
+    @Test
+    @DisplayName("build. Reuse the compiled specification for equivalent parameters")
+    void build_EquivalentParameters_ReturnsSameSpecification() {
+        BookSearchParameters first = new BookSearchParameters(
+                new String[]{"Author1", "Author2"}, new String[]{"10", "20"}, null, null,
+                "Java basics");
+        BookSearchParameters second = new BookSearchParameters(
+                new String[]{"Author2", " Author1", "Author2"}, new String[]{"10.00", "2E+1"},
+                new String[]{}, " ", "basics, JAVA java");
+        BookSearchParameters other = new BookSearchParameters(
+                new String[]{"Author1"}, new String[]{"10", "20"}, null, null, null);
+
+        assertSame(bookSpecificationBuilder.build(first), bookSpecificationBuilder.build(second));
+        assertNotSame(bookSpecificationBuilder.build(first), bookSpecificationBuilder.build(other));
+    }
+
+    @Test
+    @DisplayName("build. Reject malformed price ranges and category ids up front")
+    void build_MalformedParameters_ThrowsException() {
+        assertThrows(SearchParameterException.class, () -> bookSpecificationBuilder.build(
+                new BookSearchParameters(null, new String[]{"10"}, null, null, null)));
+        assertThrows(SearchParameterException.class, () -> bookSpecificationBuilder.build(
+                new BookSearchParameters(null, new String[]{"20", "10"}, null, null, null)));
+        assertThrows(SearchParameterException.class, () -> bookSpecificationBuilder.build(
+                new BookSearchParameters(null, new String[]{"ten", "20"}, null, null, null)));
+        assertThrows(SearchParameterException.class, () -> bookSpecificationBuilder.build(
+                new BookSearchParameters(null, null, new String[]{"first"}, null, null)));
+    }
+}
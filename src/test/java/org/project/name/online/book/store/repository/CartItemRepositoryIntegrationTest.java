@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.dto.cart.item.CartItemDto;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.model.CartItem;
 import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
@@ -15,7 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 
@@ -60,54 +61,6 @@ class CartItemRepositoryIntegrationTest {
         assertTrue(EqualsBuilder.reflectionEquals(expected.get(0), actual.get(0), "shoppingCart"));
     }
 
-    @Test
-    @DisplayName("Find all cart-items with pageable")
-    @Sql(scripts = {
-            "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
-                    + "add-books-to-books-table.sql",
-            "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
-                    + "add-cart-items-to-cart_items-table.sql",
-            "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
-                    + "add-shopping-cart-to-shopping_carts-table.sql",
-    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
-    @Sql(scripts = "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
-            + "remove-everything-after-test.sql",
-            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
-    void findAllByShoppingCartId_ExistentShoppingCartWithPageable_ReturnsListOfCartItem() {
-        Book firstBook = new Book();
-        firstBook.setId(1L);
-        firstBook.setTitle("Title");
-        firstBook.setAuthor("Author");
-        firstBook.setIsbn("123456789");
-        firstBook.setDescription("Descr.");
-        firstBook.setCoverImage("Image");
-        firstBook.setPrice(BigDecimal.valueOf(99.99));
-        Book secondBook = new Book();
-        secondBook.setId(2L);
-        secondBook.setTitle("Title2");
-        secondBook.setAuthor("Author2");
-        secondBook.setIsbn("123456789(2)");
-        secondBook.setDescription("Descr.2");
-        secondBook.setCoverImage("Image2");
-        secondBook.setPrice(BigDecimal.valueOf(98.99));
-        CartItem firstCartItem = new CartItem();
-        firstCartItem.setId(1L);
-        firstCartItem.setBook(firstBook);
-        firstCartItem.setQuantity(2);
-        CartItem secondCartItem = new CartItem();
-        secondCartItem.setId(2L);
-        secondCartItem.setBook(secondBook);
-        secondCartItem.setQuantity(2);
-        List<CartItem> expected = List.of(firstCartItem, secondCartItem);
-
-        Pageable pageable = PageRequest.of(0, 10);
-        List<CartItem> actual = cartItemRepository.findAllByShoppingCartId(1L, pageable);
-
-        assertEquals(2, actual.size());
-        assertTrue(EqualsBuilder.reflectionEquals(expected.get(0), actual.get(0), "shoppingCart"));
-        assertTrue(EqualsBuilder.reflectionEquals(expected.get(1), actual.get(1), "shoppingCart"));
-    }
-
     @Test
     @DisplayName("findAllByShoppingCartId. Returns empty list since there is no the shopping cart")
     void findAllByShoppingCartId_NonExistentShoppingCart_ReturnsEmptyList() {
@@ -134,29 +87,58 @@ class CartItemRepositoryIntegrationTest {
     }
 
     @Test
-    @DisplayName("findAllByShoppingCartId. Returns empty list since there is no the shopping cart")
-    void findAllByShoppingCartId_NonExistentShoppingCartWithPageable_ReturnsEmptyList() {
-        List<CartItem> expected = Collections.emptyList();
+    @DisplayName("Add a book to a cart or increase the quantity of the existing cart-item")
+    @Sql(scripts = {
+            "classpath:database/cart_items/repository/upsert/add-books-to-books-table.sql",
+            "classpath:database/cart_items/repository/upsert/"
+                    + "add-deleted-cart-item-to-cart_items-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/cart_items/repository/upsert/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void upsert_SameBookTwice_KeepsOneCartItem() {
+        Long shoppingCartId = 1L;
+        cartItemRepository.upsert(shoppingCartId, 1L, 2);
+        cartItemRepository.upsert(shoppingCartId, 1L, 3);
+        cartItemRepository.upsert(shoppingCartId, 2L, 4);
+        int affectedRows = cartItemRepository.upsert(shoppingCartId, 100L, 1);
 
-        Long nonExistentShoppingCartId = 100L;
-        Pageable pageable = PageRequest.of(0, 10);
-        List<CartItem> actual = cartItemRepository.findAllByShoppingCartId(
-                nonExistentShoppingCartId, pageable
-        );
+        List<CartItemDto> actual = cartItemRepository.findAllDtoByShoppingCartId(
+                shoppingCartId, PageRequest.of(0, 10, Sort.by("book.id")));
 
-        assertEquals(0, actual.size());
-        assertEquals(expected, actual);
+        assertEquals(0, affectedRows);
+        assertEquals(2, actual.size());
+        assertEquals(1L, actual.get(0).getBookId());
+        assertEquals(5, actual.get(0).getQuantity());
+        assertEquals(1L, actual.get(1).getId());
+        assertEquals(4, actual.get(1).getQuantity());
     }
 
     @Test
-    @DisplayName("findAllByShoppingCartId. Returns empty list since input parameter is null")
-    void findAllByShoppingCartId_NullAsInputParameterWithPageable_ReturnsEmptyList() {
-        List<CartItem> expected = Collections.emptyList();
-
-        Pageable pageable = PageRequest.of(0, 10);
-        List<CartItem> actual = cartItemRepository.findAllByShoppingCartId(null, pageable);
-
-        assertEquals(0, actual.size());
-        assertEquals(expected, actual);
+    @DisplayName("Update and delete a cart-item only within its own shopping cart")
+    @Sql(scripts = {
+            "classpath:database/cart_items/repository/updateAndDelete/"
+                    + "add-book-to-books-table.sql",
+            "classpath:database/cart_items/repository/updateAndDelete/"
+                    + "add-cart-items-to-cart_items-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/cart_items/repository/updateAndDelete/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void updateAndDelete_ByIdAndShoppingCartId_ChangeOwnCartItemOnly() {
+        assertEquals(0, cartItemRepository.updateQuantityByIdAndShoppingCartId(1L, 2L, 7));
+        assertEquals(1, cartItemRepository.updateQuantityByIdAndShoppingCartId(1L, 1L, 7));
+        assertEquals(0, cartItemRepository.deleteByIdAndShoppingCartId(2L, 1L));
+        assertEquals(1, cartItemRepository.deleteByIdAndShoppingCartId(2L, 2L));
+        assertEquals(0, cartItemRepository.deleteByIdAndShoppingCartId(2L, 2L));
+
+        List<CartItemDto> firstCart
+                = cartItemRepository.findAllDtoByShoppingCartId(1L, PageRequest.of(0, 10));
+        List<CartItemDto> secondCart
+                = cartItemRepository.findAllDtoByShoppingCartId(2L, PageRequest.of(0, 10));
+
+        assertEquals(1, firstCart.size());
+        assertEquals(7, firstCart.get(0).getQuantity());
+        assertTrue(secondCart.isEmpty());
     }
 }
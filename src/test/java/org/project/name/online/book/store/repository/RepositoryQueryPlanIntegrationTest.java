@@ -0,0 +1,249 @@
+package org.project.name.online.book.store.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.config.SqlStatementCollector;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.dto.cart.item.CartItemDto;
+import org.project.name.online.book.store.dto.keyset.KeysetCursor;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.CartItem;
+import org.project.name.online.book.store.model.Order;
+import org.project.name.online.book.store.model.Role;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.book.spec.AuthorSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.CategorySpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.FullTextSpecificationProvider;
+import org.project.name.online.book.store.repository.book.spec.PriceSpecificationProvider;
+import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.repository.order.OrderRepository;
+import org.project.name.online.book.store.repository.order.item.OrderItemRepository;
+import org.project.name.online.book.store.repository.role.RoleRepository;
+import org.project.name.online.book.store.repository.shopping.cart.ShoppingCartRepository;
+import org.project.name.online.book.store.repository.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.project.name.online.book.store.config.SqlStatementCollector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(scripts = "classpath:database/query_plan/add-everything-for-test.sql",
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED),
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/query_plan/remove-everything-after-test.sql",
+        config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED),
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class RepositoryQueryPlanIntegrationTest {
+    private static final String FULL_TABLE_SCAN = "ALL";
+    private static final String BOUND_VALUE = "'1001'";
+    private static final Long ID = 1001L;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private ShoppingCartRepository shoppingCartRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementCollector.clear();
+    }
+
+    @Test
+    @DisplayName("Find cart items by shopping cart without a full table scan")
+    void cartItemRepository_AllQueries_UseIndexes() {
+        cartItemRepository.findAllByShoppingCartId(ID);
+        cartItemRepository.findAllDtoByShoppingCartId(ID, PageRequest.of(0, 10));
+        cartItemRepository.existsByIdAndShoppingCartId(ID, ID);
+        cartItemRepository.upsert(ID, ID, 1);
+        cartItemRepository.updateQuantityByIdAndShoppingCartId(ID, ID, 2);
+        cartItemRepository.deleteByIdAndShoppingCartId(ID, ID);
+
+        assertNoFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Find order items by order without a full table scan")
+    void orderItemRepository_AllQueries_UseIndexes() {
+        orderItemRepository.findAllByOrderId(ID);
+        orderItemRepository.findAllByOrderId(ID, PageRequest.of(0, 10));
+        orderItemRepository.findAllDtoByOrderId(ID);
+        orderItemRepository.findAllDtoByOrderId(ID, PageRequest.of(0, 10));
+        orderItemRepository.findDtoByIdAndOrderId(ID, ID);
+
+        assertNoFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Find orders by user without a full table scan")
+    void orderRepository_AllQueries_UseIndexes() {
+        KeysetCursor cursor = new KeysetCursor("orderDate", Sort.Direction.DESC, ID,
+                LocalDateTime.of(2024, 1, 1, 12, 0).toString());
+        orderRepository.findAllByUserId(ID);
+        orderRepository.findAllByUserId(ID, PageRequest.of(0, 10));
+        orderRepository.findAllByUserId(ID, new KeysetSpecificationBuilder().<Order>build(cursor),
+                cursor.toPageable(10));
+
+        assertNoFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Find users, roles and shopping carts without a full table scan")
+    void userRoleAndShoppingCartRepositories_AllQueries_UseIndexes() {
+        userRepository.findByEmail("user1001@gmail.com");
+        userRepository.findIdentityByEmail("user1001@gmail.com");
+        roleRepository.findByRoleName(Role.RoleName.ROLE_USER);
+        shoppingCartRepository.findByUserId(ID);
+
+        assertNoFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Find books and categories by key without a full table scan")
+    void bookAndCategoryRepositories_KeyedQueries_UseIndexes() {
+        bookRepository.findById(ID);
+        bookRepository.findByIsbn("isbn-1001");
+        bookRepository.findAllIsbnsIncludingDeleted(List.of("isbn-1001", "isbn-1002"));
+        bookRepository.findRowsByIdIn(List.of(ID, ID + 1), BookFields.ALL);
+        bookRepository.findAllByCategoryId(ID, PageRequest.of(0, 10));
+        bookRepository.findAllByCategoryId(ID, authors(), PageRequest.of(0, 10, Sort.by("author")));
+        categoryRepository.findById(ID);
+
+        assertNoFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Search books by authors, price, category and keywords without a full table scan")
+    void findIds_WithSearchSpecifications_UsesIndex() {
+        bookRepository.findIds(authors(), PageRequest.of(0, 10, Sort.by("author")));
+        bookRepository.findIds(new PriceSpecificationProvider()
+                .getSpecification(new String[]{"10", "20"}),
+                PageRequest.of(0, 10, Sort.by("price")));
+        bookRepository.findIds(new CategorySpecificationProvider()
+                .getSpecification(new String[]{"1001", "1002"}), PageRequest.of(0, 10));
+        bookRepository.findIds(new FullTextSpecificationProvider()
+                .getSpecification(new String[]{"Title1001"}), PageRequest.of(0, 10));
+        bookRepository.findIds(Specification.where(null), PageRequest.of(0, 10));
+        bookRepository.countFacets(authors());
+
+        assertNoFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Read the whole catalog with one scanned table and indexed joins")
+    void fullCatalogQueries_ScanOneTableOnly() {
+        try (Stream<BookExportRow> rows = bookRepository.streamAll(BookFields.ALL)) {
+            assertTrue(rows.findFirst().isPresent());
+        }
+        try (Stream<BookExportRow> rows = bookRepository.streamAll(BookFields.of("title,author"))) {
+            assertTrue(rows.findFirst().isPresent());
+        }
+        bookRepository.countFacets(Specification.where(null));
+        categoryRepository.findAllBy(PageRequest.of(0, 10));
+
+        assertAtMostOneFullTableScan();
+    }
+
+    @Test
+    @DisplayName("Read a cart with its book titles in a single select")
+    @Sql(scripts = {
+            "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
+                    + "add-books-to-books-table.sql",
+            "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
+                    + "add-cart-items-to-cart_items-table.sql",
+            "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
+                    + "add-shopping-cart-to-shopping_carts-table.sql",
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/cart_items/repository/findAllByShoppingCartIdWithPageable/"
+            + "remove-everything-after-test.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findAllByShoppingCartId_WithSeveralBooks_IssuesOneSelect() {
+        List<CartItemDto> cartItemsDto
+                = cartItemRepository.findAllDtoByShoppingCartId(1L, PageRequest.of(0, 10));
+
+        assertEquals(List.of("Title", "Title2"),
+                cartItemsDto.stream().map(CartItemDto::getBookTitle).sorted().toList());
+        assertEquals(1, SqlStatementCollector.getStatements().size());
+        SqlStatementCollector.clear();
+
+        List<CartItem> cartItems = cartItemRepository.findAllByShoppingCartId(1L);
+
+        assertEquals(List.of("Title", "Title2"), cartItems.stream()
+                .map(cartItem -> cartItem.getBook().getTitle())
+                .sorted()
+                .toList());
+        assertEquals(1, SqlStatementCollector.getStatements().size());
+    }
+
+    private Specification<Book> authors() {
+        return new AuthorSpecificationProvider()
+                .getSpecification(new String[]{"Author1", "Author2"});
+    }
+
+    private void assertNoFullTableScan() {
+        for (String sql : explainedStatements()) {
+            assertEquals(0, countFullTableScans(sql), () -> "Full table scan in: " + sql);
+        }
+    }
+
+    private void assertAtMostOneFullTableScan() {
+        for (String sql : explainedStatements()) {
+            assertTrue(countFullTableScans(sql) <= 1, () -> "Unindexed join in: " + sql);
+        }
+    }
+
+    private List<String> explainedStatements() {
+        List<String> statements = SqlStatementCollector.getStatements().stream()
+                .filter(sql -> sql.trim().toLowerCase(Locale.ROOT)
+                        .matches("(?s)(select|insert|update|delete)\\b.*"))
+                .toList();
+        assertFalse(statements.isEmpty());
+        SqlStatementCollector.clear();
+        return statements;
+    }
+
+    private long countFullTableScans(String sql) {
+        return jdbcTemplate.queryForList("EXPLAIN " + bind(sql)).stream()
+                .filter(row -> !"INSERT".equals(row.get("select_type")))
+                .map(row -> row.get("type"))
+                .filter(FULL_TABLE_SCAN::equals)
+                .count();
+    }
+
+    private String bind(String sql) {
+        return sql.replaceAll("(?i)\\blimit\\s+\\?\\s*,\\s*\\?", "limit 0, 10")
+                .replaceAll("(?i)\\blimit\\s+\\?", "limit 10")
+                .replaceAll("(?i)\\boffset\\s+\\?", "offset 0")
+                .replace("?", BOUND_VALUE);
+    }
+}
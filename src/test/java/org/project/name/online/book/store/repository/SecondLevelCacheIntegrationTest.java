@@ -0,0 +1,104 @@
+package org.project.name.online.book.store.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.Category;
+import org.project.name.online.book.store.model.Role;
+import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
+import org.project.name.online.book.store.repository.role.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.jdbc.Sql;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider="
+                + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=classpath:application.conf",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql(scripts = {
+        "classpath:database/books/repository/findByIsbn/add-book-to-books-table.sql",
+        "classpath:database/books/repository/findByIsbn/add-category-to-categories-table.sql",
+        "classpath:database/books/repository/findByIsbn/"
+                + "add-book_category-pairs-to-books-categories.sql"
+}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "classpath:database/books/repository/findByIsbn/remove-everything-after-test.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SecondLevelCacheIntegrationTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private CartItemRepository cartItemRepository;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Serve a reloaded book, its categories and a category from the L2 cache")
+    void find_ReloadedEntities_HitSecondLevelCache() {
+        loadBookWithCategories();
+        entityManager.clear();
+        statistics.clear();
+
+        loadBookWithCategories();
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics("books").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("book-categories").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("categories").getHitCount());
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Serve a repeated role lookup from the query cache")
+    void findByRoleName_RepeatedLookup_HitsQueryCache() {
+        roleRepository.findByRoleName(Role.RoleName.ROLE_USER);
+        entityManager.clear();
+        roleRepository.findByRoleName(Role.RoleName.ROLE_USER);
+
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("roles").getHitCount());
+    }
+
+    @Test
+    @DisplayName("Keep the book and category regions when a book is added to a cart")
+    void upsert_CartItem_KeepsBookAndCategoryRegions() {
+        loadBookWithCategories();
+        entityManager.clear();
+
+        cartItemRepository.upsert(1L, 1L, 2);
+        statistics.clear();
+        loadBookWithCategories();
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics("books").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("book-categories").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("categories").getHitCount());
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    private void loadBookWithCategories() {
+        Book book = entityManager.find(Book.class, 1L);
+        book.getCategories().forEach(Category::getName);
+    }
+}
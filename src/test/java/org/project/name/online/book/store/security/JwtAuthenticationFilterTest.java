@@ -0,0 +1,70 @@
+package org.project.name.online.book.store.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.FilterChain;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.dto.user.UserIdentity;
+import org.project.name.online.book.store.model.Role;
+import org.project.name.online.book.store.service.user.UserIdentityService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    private static final String TOKEN = "token";
+    private static final String EMAIL = "email@com";
+    @Mock
+    private JwtUtil jwtUtil;
+    @Mock
+    private UserIdentityService userIdentityService;
+    @Mock
+    private FilterChain filterChain;
+    @InjectMocks
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("doFilter. Authenticate the user identity resolved from a valid token")
+    void doFilter_ValidToken_SetsUserIdentityAsPrincipal() throws Exception {
+        when(jwtUtil.isValidToken(TOKEN)).thenReturn(true);
+        when(jwtUtil.getUserName(TOKEN)).thenReturn(EMAIL);
+        UserIdentity identity
+                = new UserIdentity(1L, EMAIL, 2L, List.of(Role.RoleName.ROLE_USER));
+        when(userIdentityService.getIdentity(EMAIL)).thenReturn(identity);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        Authentication actual = SecurityContextHolder.getContext().getAuthentication();
+        assertSame(identity, actual.getPrincipal());
+        assertEquals(EMAIL, actual.getName());
+        assertEquals(List.of("ROLE_USER"), actual.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        verify(userIdentityService, times(1)).getIdentity(EMAIL);
+        verify(filterChain, times(1)).doFilter(request, response);
+        verifyNoMoreInteractions(userIdentityService, filterChain);
+    }
+}
@@ -0,0 +1,155 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.config.CacheConfig;
+import org.project.name.online.book.store.dto.book.BookImportErrorDto;
+import org.project.name.online.book.store.dto.book.BookImportReportDto;
+import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
+import org.project.name.online.book.store.mapper.book.BookMapper;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.Category;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.service.book.impl.BookImportServiceImpl;
+import org.project.name.online.book.store.service.search.BookIndexService;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportServiceImplTest {
+    private static final int CHUNK_SIZE = 2;
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private BookMapper bookMapper;
+    @Mock
+    private BookIndexService bookIndexService;
+    @Mock
+    private BookSuggestService bookSuggestService;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache searchesCache;
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        bookImportService = new BookImportServiceImpl(
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                bookRepository,
+                categoryRepository,
+                bookMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                bookIndexService,
+                bookSuggestService,
+                cacheManager
+        );
+        ReflectionTestUtils.setField(bookImportService, "chunkSize", CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("importNdjson. Insert valid rows and report every rejected line")
+    void importNdjson_WithInvalidAndDuplicateRows_ReportsRejectedLines() {
+        Category category = createCategory();
+        Book book = new Book();
+        InputStream inputStream = toInputStream(
+                createJsonRow("Title1", "isbn-1"),
+                createJsonRow("Title1 again", "isbn-1"),
+                "{\"author\":\"Author\",\"isbn\":\"isbn-3\",\"price\":10,\"categoryIds\":[1]}",
+                "",
+                createJsonRow("Title2", "isbn-2")
+        );
+        when(bookRepository.findAllIsbnsIncludingDeleted(List.of("isbn-1"))).thenReturn(List.of());
+        when(bookRepository.findAllIsbnsIncludingDeleted(List.of("isbn-2")))
+                .thenReturn(List.of("isbn-2"));
+        when(categoryRepository.findAllById(Set.of(1L))).thenReturn(List.of(category));
+        when(bookMapper.toModel(any(CreateBookRequestDto.class), eq(List.of(category))))
+                .thenReturn(book);
+        when(cacheManager.getCache(CacheConfig.BOOK_SEARCHES_CACHE)).thenReturn(searchesCache);
+
+        BookImportReportDto actual = bookImportService.importNdjson(inputStream);
+
+        assertEquals(1, actual.getImported());
+        assertEquals(3, actual.getFailed());
+        assertEquals(List.of(
+                new BookImportErrorDto(2L, "isbn-1", "The isbn is duplicated within the import"),
+                new BookImportErrorDto(3L, "isbn-3", "title must not be null"),
+                new BookImportErrorDto(5L, "isbn-2",
+                        "This isbn: isbn-2, is already registered in the data base")
+        ), actual.getErrors());
+        verify(bookMapper, times(1)).toModel(any(CreateBookRequestDto.class), any());
+        verify(bookRepository, times(1)).insertAll(List.of(book));
+        verify(bookIndexService, times(1)).index(book);
+        verify(bookSuggestService, times(1)).index(book);
+        verify(searchesCache, times(1)).clear();
+    }
+
+    @Test
+    @DisplayName("importCsv. Reject rows with malformed values or missing categories")
+    void importCsv_WithMissingCategoryAndMalformedPrice_ImportsNothing() {
+        Category category = createCategory();
+        InputStream inputStream = toInputStream(
+                "title,author,isbn,price,description,coverImage,categoryIds",
+                "Title1,Author1,isbn-1,10.5,,,1;2",
+                "Title2,Author2,isbn-2,abc,,,1"
+        );
+        when(bookRepository.findAllIsbnsIncludingDeleted(List.of("isbn-1"))).thenReturn(List.of());
+        when(categoryRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(category));
+
+        BookImportReportDto actual = bookImportService.importCsv(inputStream);
+
+        assertEquals(0, actual.getImported());
+        assertEquals(2, actual.getFailed());
+        assertEquals(3L, actual.getErrors().get(0).getLine());
+        assertEquals(new BookImportErrorDto(2L, "isbn-1", "There is no category by id: 2"),
+                actual.getErrors().get(1));
+        verify(bookRepository, never()).insertAll(any());
+        verify(cacheManager, never()).getCache(any());
+    }
+
+    private Category createCategory() {
+        Category category = new Category();
+        category.setId(1L);
+        category.setName("Test name");
+        return category;
+    }
+
+    private String createJsonRow(String title, String isbn) {
+        return "{\"title\":\"" + title + "\",\"author\":\"Author\",\"isbn\":\"" + isbn
+                + "\",\"price\":10.5,\"categoryIds\":[1]}";
+    }
+
+    private InputStream toInputStream(String... lines) {
+        return new ByteArrayInputStream(
+                String.join("\n", lines).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.dto.book.BookSearchParameters;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.service.search.impl.BookIndexServiceImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BookIndexServiceImplTest {
+    @Mock
+    private BookRepository bookRepository;
+    private BookIndexServiceImpl bookIndexService;
+
+    @BeforeEach
+    void setUp() {
+        bookIndexService = new BookIndexServiceImpl(bookRepository);
+        ReflectionTestUtils.setField(bookIndexService, "enabled", true);
+        when(bookRepository.streamAll(BookFields.of("title,author,description")))
+                .thenReturn(Stream.of(
+                        createRow(1L, "Java Basics"),
+                        createRow(2L, "Advanced Java"),
+                        createRow(3L, "Basics of Cooking")
+                ));
+        bookIndexService.rebuild();
+    }
+
+    @Test
+    @DisplayName("findIds. Intersect the postings of every query word in id order")
+    void findIds_WithSeveralWords_ReturnsIdsContainingAllWords() {
+        assertEquals(Optional.of(List.of(1L, 2L)),
+                bookIndexService.findIds(query("JAVA"), PageRequest.of(0, 10)));
+        assertEquals(Optional.of(List.of(1L)),
+                bookIndexService.findIds(query("java, basics"), PageRequest.of(0, 10)));
+        assertEquals(Optional.of(List.of(2L)),
+                bookIndexService.findIds(query("java"), PageRequest.of(1, 1)));
+        assertEquals(Optional.of(List.of()),
+                bookIndexService.findIds(query("java kotlin"), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("findIds. Leave filtered or differently sorted searches to the database")
+    void findIds_WithFiltersOrCustomSort_ReturnsEmpty() {
+        BookSearchParameters withAuthor
+                = new BookSearchParameters(new String[]{"Author"}, null, null, null, "java");
+        BookSearchParameters withFullText
+                = new BookSearchParameters(null, null, null, "java", null);
+
+        assertTrue(bookIndexService.findIds(withAuthor, PageRequest.of(0, 10)).isEmpty());
+        assertTrue(bookIndexService.findIds(withFullText, PageRequest.of(0, 10)).isEmpty());
+        assertTrue(bookIndexService.findIds(query("java"),
+                PageRequest.of(0, 10, Sort.by("price"))).isEmpty());
+        assertTrue(bookIndexService.findIds(query(" "), PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("index and remove. Keep the postings in sync with catalog writes")
+    void indexAndRemove_UpdatedCatalog_ChangesSearchResults() {
+        bookIndexService.index(createBook(2L, "Kotlin in Action"));
+        bookIndexService.remove(1L);
+
+        assertEquals(Optional.of(List.of()),
+                bookIndexService.findIds(query("java"), PageRequest.of(0, 10)));
+        assertEquals(Optional.of(List.of(2L)),
+                bookIndexService.findIds(query("kotlin"), PageRequest.of(0, 10)));
+        assertEquals(Optional.of(List.of(3L)),
+                bookIndexService.findIds(query("basics"), PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("index. Append imported ids and keep postings sorted after out-of-order writes")
+    void index_ManyBooks_KeepsPostingsSorted() {
+        for (long id = 4; id <= 100; id++) {
+            bookIndexService.index(createBook(id, "Imported Java"));
+        }
+        bookIndexService.index(createBook(3L, "Java Cooking"));
+        bookIndexService.remove(50L);
+
+        assertEquals(Optional.of(List.of(1L, 2L, 3L, 4L)),
+                bookIndexService.findIds(query("java"), PageRequest.of(0, 4)));
+        assertEquals(Optional.of(List.of(48L, 49L, 51L, 52L)),
+                bookIndexService.findIds(query("imported java"), PageRequest.of(11, 4)));
+        assertEquals(Optional.of(List.of(3L)),
+                bookIndexService.findIds(query("cooking"), PageRequest.of(0, 10)));
+    }
+
+    private BookSearchParameters query(String keywords) {
+        return new BookSearchParameters(null, null, null, null, keywords);
+    }
+
+    private Book createBook(Long id, String title) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        book.setAuthor("Author");
+        return book;
+    }
+
+    private BookExportRow createRow(Long id, String title) {
+        return new BookExportRow(id, title, "Author", null, null, "Description", null, null);
+    }
+}
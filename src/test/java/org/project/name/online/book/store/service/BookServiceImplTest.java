@@ -1,8 +1,11 @@
 package org.project.name.online.book.store.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -19,9 +22,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.name.online.book.store.dto.book.BookDto;
 import org.project.name.online.book.store.dto.book.BookDtoWithoutCategoryIds;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
 import org.project.name.online.book.store.dto.book.BookSearchParameters;
 import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
 import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
@@ -34,7 +40,9 @@ import org.project.name.online.book.store.repository.book.BookRepository;
 import org.project.name.online.book.store.repository.book.BookSpecificationBuilder;
 import org.project.name.online.book.store.repository.category.CategoryRepository;
 import org.project.name.online.book.store.service.book.impl.BookServiceImpl;
-import org.springframework.data.domain.PageImpl;
+import org.project.name.online.book.store.service.search.BookIndexService;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -55,6 +63,12 @@ class BookServiceImplTest {
     private BookMapper bookMapper;
     @Mock
     private BookSpecificationBuilder bookSpecificationBuilder;
+    @Mock
+    private BookIndexService bookIndexService;
+    @Mock
+    private BookSuggestService bookSuggestService;
+    @Spy
+    private ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
     @InjectMocks
     private BookServiceImpl bookService;
 
@@ -98,7 +112,8 @@ class BookServiceImplTest {
         CreateBookRequestDto inputDto = createDtoRequest();
         Book book = createBookWithoutId();
         when(bookRepository.findByIsbn(inputDto.getIsbn())).thenReturn(Optional.empty());
-        when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+        when(categoryRepository.findAllById(Set.of(category.getId())))
+                .thenReturn(List.of(category));
         when(bookMapper.toModel(inputDto, List.of(category))).thenReturn(book);
         when(bookRepository.save(book)).thenReturn(expectedBook);
         when(bookMapper.toDto(expectedBook)).thenReturn(expectedDto);
@@ -107,7 +122,7 @@ class BookServiceImplTest {
 
         assertTrue(EqualsBuilder.reflectionEquals(expectedDto, actualDto));
         verify(bookRepository, times(1)).findByIsbn(inputDto.getIsbn());
-        verify(categoryRepository, times(1)).findById(category.getId());
+        verify(categoryRepository, times(1)).findAllById(Set.of(category.getId()));
         verify(bookMapper, times(1)).toModel(inputDto, List.of(category));
         verify(bookMapper, times(1)).toDto(expectedBook);
         verify(bookRepository, times(1)).save(book);
@@ -136,24 +151,26 @@ class BookServiceImplTest {
         BookDto firstBookDto = createFirstBookDto();
         Book secondBook = createSecondBookWithSecondCategory();
         BookDto secondBookDto = createSecondBookDto();
-        List<Book> books = List.of(firstBook, secondBook);
+        BookExportRow firstRow = toRow(firstBook);
+        BookExportRow secondRow = toRow(secondBook);
+        List<Long> ids = List.of(firstBook.getId(), secondBook.getId());
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Book> bookPage = new PageImpl<>(
-                books, pageable, books.size()
-        );
-        when(bookRepository.findAll(pageable)).thenReturn(bookPage);
-        when(bookMapper.toDto(firstBook)).thenReturn(firstBookDto);
-        when(bookMapper.toDto(secondBook)).thenReturn(secondBookDto);
+        when(bookRepository.findIds(any(), eq(pageable))).thenReturn(ids);
+        when(bookRepository.findRowsByIdIn(ids, BookFields.ALL))
+                .thenReturn(List.of(firstRow, secondRow));
+        when(bookMapper.toDto(firstRow)).thenReturn(firstBookDto);
+        when(bookMapper.toDto(secondRow)).thenReturn(secondBookDto);
 
         List<BookDto> expectedDtoList = List.of(firstBookDto, secondBookDto);
-        List<BookDto> actualDtoList = bookService.findAll(pageable);
+        List<BookDto> actualDtoList = bookService.findAll(pageable, BookFields.ALL);
 
         assertEquals(expectedDtoList.size(), actualDtoList.size());
         assertTrue(EqualsBuilder.reflectionEquals(expectedDtoList.get(0), actualDtoList.get(0)));
         assertTrue(EqualsBuilder.reflectionEquals(expectedDtoList.get(1), actualDtoList.get(1)));
-        verify(bookRepository, times(1)).findAll(pageable);
-        verify(bookMapper, times(1)).toDto(firstBook);
-        verify(bookMapper, times(1)).toDto(secondBook);
+        verify(bookRepository, times(1)).findIds(any(), eq(pageable));
+        verify(bookRepository, times(1)).findRowsByIdIn(ids, BookFields.ALL);
+        verify(bookMapper, times(1)).toDto(firstRow);
+        verify(bookMapper, times(1)).toDto(secondRow);
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
@@ -167,9 +184,9 @@ class BookServiceImplTest {
         Long bookId = 1L;
         when(bookRepository.findByIsbn(inputDto.getIsbn())).thenReturn(Optional.empty());
         when(bookRepository.findById(bookId)).thenReturn(Optional.of(expectedBook));
-        when(categoryRepository.findById(
-                secondCategory.getId())
-        ).thenReturn(Optional.of(secondCategory));
+        when(categoryRepository.findAllById(
+                Set.of(secondCategory.getId()))
+        ).thenReturn(List.of(secondCategory));
         when(bookMapper.mergeEntities(
                 inputDto, expectedBook, List.of(secondCategory))
         ).thenReturn(updatedBook);
@@ -181,7 +198,8 @@ class BookServiceImplTest {
         assertTrue(EqualsBuilder.reflectionEquals(expectedBookDto, actualBookDto));
         verify(bookRepository, times(1)).findByIsbn(inputDto.getIsbn());
         verify(bookRepository, times(1)).findById(bookId);
-        verify(categoryRepository, times(1)).findById(secondCategory.getId());
+        verify(categoryRepository, times(1)).findAllById(
+                Set.of(secondCategory.getId()));
         verify(bookMapper, times(1)).mergeEntities(
                 inputDto, expectedBook, List.of(secondCategory)
         );
@@ -196,44 +214,98 @@ class BookServiceImplTest {
         Book book = createBookWithId();
         BookDto expectedBookDto = createExpectedBookDto();
         BookSearchParameters bookSearchParameters = new BookSearchParameters(
-                new String[]{"Author"}, new String[]{"99", "100"}
+                new String[]{"Author"}, new String[]{"99", "100"}, null, null, null
         );
         Specification<Book> specification = mock(Specification.class);
-        List<Book> books = List.of(book);
+        BookExportRow row = toRow(book);
+        List<Long> ids = List.of(book.getId());
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Book> bookPage = new PageImpl<>(
-                books, pageable, books.size()
-        );
         when(bookSpecificationBuilder.build(bookSearchParameters)).thenReturn(specification);
-        when(bookRepository.findAll(specification, pageable)).thenReturn(bookPage);
-        when(bookMapper.toDto(book)).thenReturn(expectedBookDto);
+        when(bookRepository.findIds(specification, pageable)).thenReturn(ids);
+        when(bookRepository.findRowsByIdIn(ids, BookFields.ALL)).thenReturn(List.of(row));
+        when(bookMapper.toDto(row)).thenReturn(expectedBookDto);
 
         List<BookDto> expectedDtoList = List.of(expectedBookDto);
-        List<BookDto> actualDtoList = bookService.searchBook(bookSearchParameters, pageable);
+        List<BookDto> actualDtoList
+                = bookService.searchBook(bookSearchParameters, pageable, BookFields.ALL);
 
         assertEquals(expectedDtoList.size(), actualDtoList.size());
         assertTrue(EqualsBuilder.reflectionEquals(expectedDtoList.get(0), actualDtoList.get(0)));
         verify(bookSpecificationBuilder, times(1)).build(bookSearchParameters);
-        verify(bookRepository, times(1)).findAll(specification, pageable);
-        verify(bookMapper, times(1)).toDto(book);
+        verify(bookRepository, times(1)).findIds(specification, pageable);
+        verify(bookRepository, times(1)).findRowsByIdIn(ids, BookFields.ALL);
+        verify(bookMapper, times(1)).toDto(row);
+        verifyNoMoreInteractions(bookSpecificationBuilder, bookRepository, bookMapper);
+    }
+
+    @Test
+    @DisplayName("Serve equivalent searches from the search and book caches")
+    void searchBook_EquivalentSearchParameters_QueriesDatabaseOnce() {
+        Book book = createBookWithId();
+        BookDto expectedBookDto = createExpectedBookDto();
+        BookSearchParameters firstParameters = new BookSearchParameters(
+                new String[]{"Author", "Other"}, new String[]{"99", "100"}, null, null, null
+        );
+        Specification<Book> specification = mock(Specification.class);
+        List<Long> ids = List.of(book.getId());
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookSpecificationBuilder.build(firstParameters)).thenReturn(specification);
+        when(bookRepository.findIds(specification, pageable)).thenReturn(ids);
+        BookExportRow row = toRow(book);
+        when(bookRepository.findRowsByIdIn(ids, BookFields.ALL)).thenReturn(List.of(row));
+        when(bookMapper.toDto(row)).thenReturn(expectedBookDto);
+
+        bookService.searchBook(firstParameters, pageable, BookFields.ALL);
+        BookSearchParameters secondParameters = new BookSearchParameters(
+                new String[]{" Other", "Author", "Author"}, new String[]{"99.0", "100.00"},
+                new String[]{}, "", null
+        );
+        List<BookDto> actual = bookService.searchBook(secondParameters, pageable, BookFields.ALL);
+
+        assertEquals(List.of(expectedBookDto), actual);
+        verify(bookRepository, times(1)).findIds(specification, pageable);
+        verify(bookRepository, times(1)).findRowsByIdIn(ids, BookFields.ALL);
+        verify(bookMapper, times(1)).toDto(row);
         verifyNoMoreInteractions(bookSpecificationBuilder, bookRepository, bookMapper);
     }
 
+    @Test
+    @DisplayName("Load only the requested fields and keep partial books out of the cache")
+    void findAll_WithSparseFields_LoadsRequestedColumnsOnly() {
+        BookDto partialBookDto = new BookDto();
+        partialBookDto.setId(1L);
+        partialBookDto.setTitle("Title");
+        partialBookDto.setPrice(10.0);
+        BookExportRow row = new BookExportRow(1L, "Title", null, null, BigDecimal.TEN,
+                null, null, null);
+        List<Long> ids = List.of(1L);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(bookRepository.findIds(any(), eq(pageable))).thenReturn(ids);
+        BookFields fields = BookFields.of("id,title,price");
+        when(bookRepository.findRowsByIdIn(ids, fields)).thenReturn(List.of(row));
+        when(bookMapper.toDto(row)).thenReturn(partialBookDto);
+
+        bookService.findAll(pageable, fields);
+        List<BookDto> actual = bookService.findAll(pageable, fields);
+
+        assertEquals(List.of(partialBookDto), actual);
+        assertNull(actual.get(0).getCategoryIds());
+        verify(bookRepository, times(2)).findIds(any(), eq(pageable));
+        verify(bookRepository, times(2)).findRowsByIdIn(ids, fields);
+        verify(bookMapper, times(2)).toDto(row);
+        verifyNoMoreInteractions(bookRepository, bookMapper);
+    }
+
     @Test
     @DisplayName("Find all books by category id")
     void findAllByCategoryId_WhichPersistInDb_ReturnsListOfBookDto() {
-        Book firstBook = createFirstBook();
         BookDtoWithoutCategoryIds firstBookDto = createFirstDtoWithoutCategoryIds();
-        Book secondBook = createSecondBook();
         BookDtoWithoutCategoryIds secondBookDto = createSecondDtoWithoutCategoryIds();
         Pageable pageable = PageRequest.of(0, 10);
-        List<Book> books = List.of(firstBook, secondBook);
+        List<BookDtoWithoutCategoryIds> expectedDtoList = List.of(firstBookDto, secondBookDto);
         Long categoryId = 1L;
-        when(bookRepository.findAllByCategoryId(categoryId, pageable)).thenReturn(books);
-        when(bookMapper.toDtoWithoutCategories(firstBook)).thenReturn(firstBookDto);
-        when(bookMapper.toDtoWithoutCategories(secondBook)).thenReturn(secondBookDto);
+        when(bookRepository.findAllByCategoryId(categoryId, pageable)).thenReturn(expectedDtoList);
 
-        List<BookDtoWithoutCategoryIds> expectedDtoList = List.of(firstBookDto, secondBookDto);
         List<BookDtoWithoutCategoryIds> actualDtoList
                 = bookService.findAllByCategoryId(categoryId, pageable);
 
@@ -241,8 +313,6 @@ class BookServiceImplTest {
         assertTrue(EqualsBuilder.reflectionEquals(expectedDtoList.get(0), actualDtoList.get(0)));
         assertTrue(EqualsBuilder.reflectionEquals(expectedDtoList.get(1), actualDtoList.get(1)));
         verify(bookRepository, times(1)).findAllByCategoryId(categoryId, pageable);
-        verify(bookMapper, times(1)).toDtoWithoutCategories(firstBook);
-        verify(bookMapper, times(1)).toDtoWithoutCategories(secondBook);
         verifyNoMoreInteractions(bookRepository, bookMapper);
     }
 
@@ -267,7 +337,7 @@ class BookServiceImplTest {
         Long nonExistentCategoryId = 100L;
         CreateBookRequestDto inputDto = new CreateBookRequestDto();
         inputDto.setCategoryIds(List.of(nonExistentCategoryId));
-        when(categoryRepository.findById(nonExistentCategoryId)).thenReturn(Optional.empty());
+        when(categoryRepository.findAllById(Set.of(nonExistentCategoryId))).thenReturn(List.of());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -277,7 +347,27 @@ class BookServiceImplTest {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(categoryRepository, times(1)).findById(nonExistentCategoryId);
+        verify(categoryRepository, times(1)).findAllById(Set.of(nonExistentCategoryId));
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    @Test
+    @DisplayName("save. Report every missing category id in one exception")
+    void save_WithSeveralNotExistentCategories_ThrowsEntityNotFoundException() {
+        CreateBookRequestDto inputDto = new CreateBookRequestDto();
+        inputDto.setCategoryIds(List.of(category.getId(), 100L, 101L, 100L));
+        when(categoryRepository.findAllById(Set.of(category.getId(), 100L, 101L)))
+                .thenReturn(List.of(category));
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> bookService.save(inputDto)
+        );
+        String expected = "There is no category by id: 100, 101";
+        String actual = exception.getMessage();
+
+        assertEquals(expected, actual);
+        verify(categoryRepository, times(1)).findAllById(Set.of(category.getId(), 100L, 101L));
         verifyNoMoreInteractions(categoryRepository);
     }
 
@@ -326,16 +416,12 @@ class BookServiceImplTest {
     @DisplayName("findAll. Return empty list since there is no any book in DB")
     void findAll_WhichNonPersistInDb_ReturnEmptyList() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Book> books = List.of();
-        PageImpl<Book> bookPage = new PageImpl<>(
-                books, pageable, 0
-        );
-        when(bookRepository.findAll(pageable)).thenReturn(bookPage);
+        when(bookRepository.findIds(any(), eq(pageable))).thenReturn(List.of());
 
-        List<BookDto> actualDtoList = bookService.findAll(pageable);
+        List<BookDto> actualDtoList = bookService.findAll(pageable, BookFields.ALL);
 
         assertEquals(0, actualDtoList.size());
-        verify(bookRepository, times(1)).findAll(pageable);
+        verify(bookRepository, times(1)).findIds(any(), eq(pageable));
         verifyNoMoreInteractions(bookRepository);
     }
 
@@ -377,7 +463,7 @@ class BookServiceImplTest {
         book.setId(bookId);
         when(bookRepository.findByIsbn(inputDto.getIsbn())).thenReturn(Optional.empty());
         when(bookRepository.findById(bookId)).thenReturn(Optional.of(book));
-        when(categoryRepository.findById(nonExistentCategoryId)).thenReturn(Optional.empty());
+        when(categoryRepository.findAllById(Set.of(nonExistentCategoryId))).thenReturn(List.of());
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
@@ -388,7 +474,7 @@ class BookServiceImplTest {
 
         assertEquals(expected, actual);
         verify(bookRepository, times(1)).findById(bookId);
-        verify(categoryRepository, times(1)).findById(nonExistentCategoryId);
+        verify(categoryRepository, times(1)).findAllById(Set.of(nonExistentCategoryId));
         verifyNoMoreInteractions(bookRepository, categoryRepository);
     }
 
@@ -422,20 +508,17 @@ class BookServiceImplTest {
     void searchBook_WithEmptySearchList_ReturnsEmptyList() {
         Specification<Book> specification = mock(Specification.class);
         BookSearchParameters bookSearchParameters = new BookSearchParameters(
-                new String[]{}, new String[]{});
+                new String[]{}, new String[]{}, new String[]{}, null, null);
         Pageable pageable = PageRequest.of(0, 10);
-        List<Book> books = List.of();
-        PageImpl<Book> bookPage = new PageImpl<>(
-                books, pageable, 0
-        );
         when(bookSpecificationBuilder.build(bookSearchParameters)).thenReturn(specification);
-        when(bookRepository.findAll(specification, pageable)).thenReturn(bookPage);
+        when(bookRepository.findIds(specification, pageable)).thenReturn(List.of());
 
-        List<BookDto> actualDtoList = bookService.searchBook(bookSearchParameters, pageable);
+        List<BookDto> actualDtoList
+                = bookService.searchBook(bookSearchParameters, pageable, BookFields.ALL);
 
         assertEquals(0, actualDtoList.size());
         verify(bookSpecificationBuilder, times(1)).build(bookSearchParameters);
-        verify(bookRepository, times(1)).findAll(specification, pageable);
+        verify(bookRepository, times(1)).findIds(specification, pageable);
         verifyNoMoreInteractions(bookSpecificationBuilder, bookRepository);
     }
 
@@ -444,8 +527,8 @@ class BookServiceImplTest {
     void findAllByCategoryId_ByNonExistentCategoryId_ReturnsEmptyList() {
         Long nonExistentCategoryId = 100L;
         Pageable pageable = PageRequest.of(0, 10);
-        List<Book> books = List.of();
-        when(bookRepository.findAllByCategoryId(nonExistentCategoryId, pageable)).thenReturn(books);
+        when(bookRepository.findAllByCategoryId(nonExistentCategoryId, pageable))
+                .thenReturn(List.of());
 
         List<BookDtoWithoutCategoryIds> actualDtoList
                 = bookService.findAllByCategoryId(nonExistentCategoryId, pageable);
@@ -473,6 +556,12 @@ class BookServiceImplTest {
         verifyNoMoreInteractions(bookRepository);
     }
 
+    private BookExportRow toRow(Book book) {
+        return new BookExportRow(book.getId(), book.getTitle(), book.getAuthor(),
+                book.getIsbn(), book.getPrice(), book.getDescription(), book.getCoverImage(),
+                book.getCategories().iterator().next().getName());
+    }
+
     private CreateBookRequestDto createDtoRequest() {
         CreateBookRequestDto inputDto = new CreateBookRequestDto();
         inputDto.setTitle("Title");
@@ -625,19 +714,6 @@ class BookServiceImplTest {
         return expectedBookDto;
     }
 
-    private Book createFirstBook() {
-        Book firstBook = new Book();
-        firstBook.setId(1L);
-        firstBook.setTitle("Title");
-        firstBook.setAuthor("Author");
-        firstBook.setIsbn("123456789");
-        firstBook.setPrice(BigDecimal.valueOf(99.99));
-        firstBook.setDescription("Descr.");
-        firstBook.setCoverImage("Image");
-        firstBook.setCategories(Set.of(category));
-        return firstBook;
-    }
-
     private BookDtoWithoutCategoryIds createFirstDtoWithoutCategoryIds() {
         BookDtoWithoutCategoryIds firstBookDto = new BookDtoWithoutCategoryIds();
         firstBookDto.setId(1L);
@@ -650,19 +726,6 @@ class BookServiceImplTest {
         return firstBookDto;
     }
 
-    private Book createSecondBook() {
-        Book secondBook = new Book();
-        secondBook.setId(2L);
-        secondBook.setTitle("Title2");
-        secondBook.setAuthor("Author2");
-        secondBook.setIsbn("123456789(2)");
-        secondBook.setPrice(BigDecimal.valueOf(98.99));
-        secondBook.setDescription("Descr.2");
-        secondBook.setCoverImage("Image2");
-        secondBook.setCategories(Set.of(category));
-        return secondBook;
-    }
-
     private BookDtoWithoutCategoryIds createSecondDtoWithoutCategoryIds() {
         BookDtoWithoutCategoryIds secondBookDto = new BookDtoWithoutCategoryIds();
         secondBookDto.setId(2L);
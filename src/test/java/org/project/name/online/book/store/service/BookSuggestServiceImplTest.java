@@ -0,0 +1,107 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.dto.book.BookExportRow;
+import org.project.name.online.book.store.dto.book.BookFields;
+import org.project.name.online.book.store.dto.book.BookSuggestionDto;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.service.search.impl.BookSuggestServiceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BookSuggestServiceImplTest {
+    @Mock
+    private BookRepository bookRepository;
+    private BookSuggestServiceImpl bookSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        bookSuggestService = new BookSuggestServiceImpl(bookRepository);
+        when(bookRepository.streamAll(BookFields.of("title,author"))).thenReturn(Stream.of(
+                createRow(1L, "Java Basics", "Joshua Bloch"),
+                createRow(2L, "Effective Java", "Joshua Bloch"),
+                createRow(3L, "Java Concurrency", "Brian Goetz")
+        ));
+        bookSuggestService.rebuild();
+    }
+
+    @Test
+    @DisplayName("suggest. Return titles and authors by prefix, most common first")
+    void suggest_WithPrefix_ReturnsRankedSuggestions() {
+        assertEquals(List.of(
+                new BookSuggestionDto("Java Basics", "title", 1L),
+                new BookSuggestionDto("Java Concurrency", "title", 1L)
+        ), bookSuggestService.suggest(" JAVA", 10));
+        assertEquals(List.of(new BookSuggestionDto("Joshua Bloch", "author", 2L)),
+                bookSuggestService.suggest("j", 1));
+        assertEquals(List.of(), bookSuggestService.suggest("", 10));
+    }
+
+    @Test
+    @DisplayName("index and remove. Keep the suggestions in sync with catalog writes")
+    void indexAndRemove_UpdatedCatalog_ChangesSuggestions() {
+        bookSuggestService.suggest("j", 10);
+        bookSuggestService.index(createBook(1L, "Kotlin Basics"));
+        bookSuggestService.remove(2L);
+
+        assertEquals(List.of(
+                new BookSuggestionDto("Java Concurrency", "title", 1L),
+                new BookSuggestionDto("Joshua Bloch", "author", 1L)
+        ), bookSuggestService.suggest("j", 10));
+        assertEquals(List.of(new BookSuggestionDto("Kotlin Basics", "title", 1L)),
+                bookSuggestService.suggest("kot", 10));
+    }
+
+    @Test
+    @DisplayName("index. Evict only the cached prefixes of the changed titles and authors")
+    void index_NewBook_EvictsOnlyAffectedPrefixes() {
+        bookSuggestService.suggest("b", 10);
+        bookSuggestService.suggest("jav", 10);
+        bookSuggestService.suggest("kot", 10);
+        bookSuggestService.index(createBook(4L, "Kotlin Basics"));
+
+        Cache<?, ?> topByPrefix
+                = (Cache<?, ?>) ReflectionTestUtils.getField(bookSuggestService, "topByPrefix");
+        assertEquals(Set.of("b", "jav"), topByPrefix.asMap().keySet());
+        assertEquals(List.of(new BookSuggestionDto("Kotlin Basics", "title", 1L)),
+                bookSuggestService.suggest("kot", 10));
+    }
+
+    @Test
+    @DisplayName("index. Refresh a cached prefix longer than three characters")
+    void index_NewBook_RefreshesLongCachedPrefix() {
+        assertEquals(List.of(new BookSuggestionDto("Java Concurrency", "title", 1L)),
+                bookSuggestService.suggest("java c", 10));
+        bookSuggestService.index(createBook(4L, "Java Collections"));
+
+        assertEquals(List.of(
+                new BookSuggestionDto("Java Collections", "title", 1L),
+                new BookSuggestionDto("Java Concurrency", "title", 1L)
+        ), bookSuggestService.suggest("java c", 10));
+    }
+
+    private Book createBook(Long id, String title) {
+        Book book = new Book();
+        book.setId(id);
+        book.setTitle(title);
+        book.setAuthor("Joshua Bloch");
+        return book;
+    }
+
+    private BookExportRow createRow(Long id, String title, String author) {
+        return new BookExportRow(id, title, author, null, null, null, null, null);
+    }
+}
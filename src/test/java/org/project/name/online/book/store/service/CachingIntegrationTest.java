@@ -0,0 +1,267 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.name.online.book.store.config.CacheConfig;
+import org.project.name.online.book.store.dto.book.BookDto;
+import org.project.name.online.book.store.dto.book.CreateBookRequestDto;
+import org.project.name.online.book.store.dto.book.UpdateBookRequestDto;
+import org.project.name.online.book.store.dto.category.CategoryDto;
+import org.project.name.online.book.store.mapper.book.BookMapper;
+import org.project.name.online.book.store.mapper.category.CategoryMapper;
+import org.project.name.online.book.store.model.Book;
+import org.project.name.online.book.store.model.Category;
+import org.project.name.online.book.store.repository.KeysetSpecificationBuilder;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.book.BookSpecificationBuilder;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.service.book.BookService;
+import org.project.name.online.book.store.service.book.impl.BookServiceImpl;
+import org.project.name.online.book.store.service.category.CategoryService;
+import org.project.name.online.book.store.service.category.impl.CategoryServiceImpl;
+import org.project.name.online.book.store.service.search.BookIndexService;
+import org.project.name.online.book.store.service.search.BookSuggestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+@SpringBootTest(classes = {CacheConfig.class, BookServiceImpl.class, CategoryServiceImpl.class},
+        properties = {
+                "spring.cache.type=caffeine",
+                "spring.cache.cache-names=books,categories",
+                "spring.cache.caffeine.spec=maximumSize=100,recordStats"
+        })
+@ImportAutoConfiguration({
+        CacheAutoConfiguration.class,
+        MetricsAutoConfiguration.class,
+        CompositeMeterRegistryAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class,
+        CacheMetricsAutoConfiguration.class
+})
+class CachingIntegrationTest {
+    private static final Long ID = 1L;
+    private static final int CONCURRENT_CALLERS = 8;
+    private static final long LOAD_MILLIS = 100;
+    private static final long LOAD_TIMEOUT_SECONDS = 5;
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @MockBean
+    private BookRepository bookRepository;
+    @MockBean
+    private CategoryRepository categoryRepository;
+    @MockBean
+    private BookMapper bookMapper;
+    @MockBean
+    private CategoryMapper categoryMapper;
+    @MockBean
+    private BookSpecificationBuilder bookSpecificationBuilder;
+    @MockBean
+    private KeysetSpecificationBuilder keysetSpecificationBuilder;
+    @MockBean
+    private ObjectMapper objectMapper;
+    @MockBean
+    private BookIndexService bookIndexService;
+    @MockBean
+    private BookSuggestService bookSuggestService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    @DisplayName("getBookById. Read a book through the cache once and count the hit and the miss")
+    void getBookById_RepeatedCall_ReadsRepositoryOnce() {
+        Book book = createBook();
+        BookDto expected = createBookDto("Title");
+        when(bookRepository.findById(ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(expected);
+        final double hits = cacheGets(CacheConfig.BOOKS_CACHE, "hit");
+        final double misses = cacheGets(CacheConfig.BOOKS_CACHE, "miss");
+
+        assertSame(expected, bookService.getBookById(ID));
+        assertSame(expected, bookService.getBookById(ID));
+
+        verify(bookRepository, times(1)).findById(ID);
+        assertEquals(hits + 1, cacheGets(CacheConfig.BOOKS_CACHE, "hit"));
+        assertEquals(misses + 1, cacheGets(CacheConfig.BOOKS_CACHE, "miss"));
+    }
+
+    @Test
+    @DisplayName("save. Put the saved book into the cache")
+    void save_NewBook_PutsBookIntoCache() {
+        CreateBookRequestDto requestDto = new CreateBookRequestDto();
+        Book book = createBook();
+        BookDto expected = createBookDto("Title");
+        when(bookMapper.toModel(requestDto, List.of())).thenReturn(book);
+        when(bookRepository.save(book)).thenReturn(book);
+        when(bookMapper.toDto(book)).thenReturn(expected);
+
+        bookService.save(requestDto);
+
+        assertSame(expected, bookService.getBookById(ID));
+        verify(bookRepository, never()).findById(ID);
+    }
+
+    @Test
+    @DisplayName("updateBookById. Replace the cached book with the updated one")
+    void updateBookById_CachedBook_ReplacesCachedBook() {
+        UpdateBookRequestDto requestDto = new UpdateBookRequestDto();
+        Book book = createBook();
+        BookDto updated = createBookDto("Updated title");
+        when(bookRepository.findById(ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(createBookDto("Title"), updated);
+        when(bookMapper.mergeEntities(requestDto, book, List.of())).thenReturn(book);
+        when(bookRepository.save(book)).thenReturn(book);
+
+        bookService.getBookById(ID);
+        bookService.updateBookById(ID, requestDto);
+
+        assertSame(updated, bookService.getBookById(ID));
+        verify(bookRepository, times(2)).findById(ID);
+    }
+
+    @Test
+    @DisplayName("deleteById. Evict the deleted book so the next read goes to the repository")
+    void deleteById_CachedBook_EvictsBook() {
+        Book book = createBook();
+        when(bookRepository.findById(ID)).thenReturn(Optional.of(book));
+        when(bookMapper.toDto(book)).thenReturn(createBookDto("Title"));
+
+        bookService.getBookById(ID);
+        bookService.deleteById(ID);
+        bookService.getBookById(ID);
+
+        verify(bookRepository, times(3)).findById(ID);
+    }
+
+    @Test
+    @DisplayName("getById and deleteById. Cache a category until it is deleted")
+    void getById_CachedCategory_ReadsRepositoryUntilDeleted() {
+        Category category = new Category();
+        category.setId(ID);
+        CategoryDto expected = new CategoryDto();
+        expected.setId(ID);
+        when(categoryRepository.findById(ID)).thenReturn(Optional.of(category));
+        when(categoryMapper.toDto(category)).thenReturn(expected);
+
+        assertSame(expected, categoryService.getById(ID));
+        assertSame(expected, categoryService.getById(ID));
+        categoryService.deleteById(ID);
+        categoryService.getById(ID);
+
+        verify(categoryRepository, times(3)).findById(ID);
+    }
+
+    @Test
+    @DisplayName("getBookById. Load a book once for concurrent misses on the same id")
+    void getBookById_ConcurrentMisses_ReadsRepositoryOnce() throws Exception {
+        Book book = createBook();
+        BookDto expected = createBookDto("Title");
+        CountDownLatch callersStarted = new CountDownLatch(CONCURRENT_CALLERS);
+        when(bookRepository.findById(ID)).thenAnswer(invocation -> {
+            callersStarted.await(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Thread.sleep(LOAD_MILLIS);
+            return Optional.of(book);
+        });
+        when(bookMapper.toDto(book)).thenReturn(expected);
+
+        List<BookDto> actual = callConcurrently(callersStarted, () -> bookService.getBookById(ID));
+
+        assertEquals(Collections.nCopies(CONCURRENT_CALLERS, expected), actual);
+        verify(bookRepository, times(1)).findById(ID);
+    }
+
+    @Test
+    @DisplayName("getById. Load a category once for concurrent misses on the same id")
+    void getById_ConcurrentMisses_ReadsRepositoryOnce() throws Exception {
+        Category category = new Category();
+        category.setId(ID);
+        CategoryDto expected = new CategoryDto();
+        expected.setId(ID);
+        CountDownLatch callersStarted = new CountDownLatch(CONCURRENT_CALLERS);
+        when(categoryRepository.findById(ID)).thenAnswer(invocation -> {
+            callersStarted.await(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            Thread.sleep(LOAD_MILLIS);
+            return Optional.of(category);
+        });
+        when(categoryMapper.toDto(category)).thenReturn(expected);
+
+        List<CategoryDto> actual
+                = callConcurrently(callersStarted, () -> categoryService.getById(ID));
+
+        assertEquals(Collections.nCopies(CONCURRENT_CALLERS, expected), actual);
+        verify(categoryRepository, times(1)).findById(ID);
+    }
+
+    private <T> List<T> callConcurrently(CountDownLatch callersStarted, Callable<T> call)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        try {
+            List<Callable<T>> callers = Collections.nCopies(CONCURRENT_CALLERS, () -> {
+                callersStarted.countDown();
+                return call.call();
+            });
+            List<T> results = new ArrayList<>();
+            for (Future<T> result : executor.invokeAll(callers)) {
+                results.add(result.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double cacheGets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", cacheName, "result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private Book createBook() {
+        Book book = new Book();
+        book.setId(ID);
+        return book;
+    }
+
+    private BookDto createBookDto(String title) {
+        BookDto bookDto = new BookDto();
+        bookDto.setId(ID);
+        bookDto.setTitle(title);
+        return bookDto;
+    }
+}
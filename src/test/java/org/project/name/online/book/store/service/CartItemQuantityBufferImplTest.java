@@ -0,0 +1,127 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.exception.EntityNotFoundException;
+import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
+import org.project.name.online.book.store.service.shopping.cart.impl.CartItemQuantityBufferImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+
+@ExtendWith(MockitoExtension.class)
+class CartItemQuantityBufferImplTest {
+    private static final int MAX_PENDING = 2;
+    @Mock
+    private CartItemRepository cartItemRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    private CartItemQuantityBufferImpl cartItemQuantityBuffer;
+
+    @BeforeEach
+    void setUp() {
+        cartItemQuantityBuffer
+                = new CartItemQuantityBufferImpl(cartItemRepository, transactionManager);
+        ReflectionTestUtils.setField(cartItemQuantityBuffer, "enabled", true);
+        ReflectionTestUtils.setField(cartItemQuantityBuffer, "maxPending", MAX_PENDING);
+    }
+
+    @Test
+    @DisplayName("offer and flush. Write only the last quantity of a burst of updates")
+    void offer_SeveralUpdatesOfOneCartItem_FlushesLastQuantity() {
+        when(cartItemRepository.existsByIdAndShoppingCartId(1L, 1L)).thenReturn(true);
+
+        assertTrue(cartItemQuantityBuffer.offer(1L, 1L, 2));
+        assertTrue(cartItemQuantityBuffer.offer(1L, 1L, 3));
+        assertTrue(cartItemQuantityBuffer.offer(1L, 1L, 4));
+        cartItemQuantityBuffer.flush(2L);
+        cartItemQuantityBuffer.flush(1L);
+        cartItemQuantityBuffer.flushAll();
+
+        verify(cartItemRepository, times(1)).existsByIdAndShoppingCartId(1L, 1L);
+        verify(cartItemRepository, times(1)).updateQuantityByIdAndShoppingCartId(1L, 1L, 4);
+        verifyNoMoreInteractions(cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("offer. Write through once the buffer holds the maximum of cart-items")
+    void offer_FullBuffer_ReturnsFalse() {
+        when(cartItemRepository.existsByIdAndShoppingCartId(1L, 1L)).thenReturn(true);
+        when(cartItemRepository.existsByIdAndShoppingCartId(2L, 1L)).thenReturn(true);
+
+        assertTrue(cartItemQuantityBuffer.offer(1L, 1L, 2));
+        assertTrue(cartItemQuantityBuffer.offer(1L, 2L, 2));
+        assertFalse(cartItemQuantityBuffer.offer(1L, 3L, 2));
+        assertTrue(cartItemQuantityBuffer.offer(1L, 2L, 5));
+        cartItemQuantityBuffer.discard(1L);
+        cartItemQuantityBuffer.flushAll();
+
+        verify(cartItemRepository, times(1)).updateQuantityByIdAndShoppingCartId(2L, 1L, 5);
+    }
+
+    @Test
+    @DisplayName("offer. Throw EntityNotFoundException since the cart-item isn't in the cart")
+    void offer_WithForeignCartItem_ThrowsEntityNotFoundException() {
+        when(cartItemRepository.existsByIdAndShoppingCartId(1L, 2L)).thenReturn(false);
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> cartItemQuantityBuffer.offer(2L, 1L, 2)
+        );
+
+        assertEquals("There is no cart-item by id: 1", exception.getMessage());
+        cartItemQuantityBuffer.flushAll();
+        verifyNoMoreInteractions(cartItemRepository);
+    }
+
+    @Test
+    @DisplayName("flush. Commit in a new transaction and keep quantities whose commit failed")
+    void flush_FailedCommit_KeepsQuantityForNextFlush() {
+        TransactionStatus transaction = mock(TransactionStatus.class);
+        when(cartItemRepository.existsByIdAndShoppingCartId(1L, 1L)).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(transaction);
+        doThrow(new TransactionSystemException("Commit failed"))
+                .doNothing()
+                .when(transactionManager).commit(transaction);
+        cartItemQuantityBuffer.offer(1L, 1L, 4);
+
+        assertThrows(TransactionSystemException.class, () -> cartItemQuantityBuffer.flush(1L));
+        cartItemQuantityBuffer.flush(1L);
+        cartItemQuantityBuffer.flush(1L);
+
+        ArgumentCaptor<TransactionDefinition> definition
+                = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW,
+                definition.getValue().getPropagationBehavior());
+        verify(cartItemRepository, times(2)).updateQuantityByIdAndShoppingCartId(1L, 1L, 4);
+    }
+
+    @Test
+    @DisplayName("offer. Leave every update to the database when write-behind is disabled")
+    void offer_Disabled_ReturnsFalse() {
+        ReflectionTestUtils.setField(cartItemQuantityBuffer, "enabled", false);
+
+        assertFalse(cartItemQuantityBuffer.offer(1L, 1L, 2));
+        verifyNoMoreInteractions(cartItemRepository);
+    }
+}
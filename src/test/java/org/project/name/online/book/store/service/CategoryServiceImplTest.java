@@ -25,9 +25,9 @@ import org.project.name.online.book.store.mapper.category.CategoryMapper;
 import org.project.name.online.book.store.model.Category;
 import org.project.name.online.book.store.repository.category.CategoryRepository;
 import org.project.name.online.book.store.service.category.impl.CategoryServiceImpl;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceImplTest {
@@ -94,10 +94,8 @@ class CategoryServiceImplTest {
         CategoryDto secondDto = createSecondCategoryDto();
         List<Category> categories = List.of(firstCategory, secondCategory);
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Category> categoryPage = new PageImpl<>(
-                categories, pageable, categories.size()
-        );
-        when(categoryRepository.findAll(pageable)).thenReturn(categoryPage);
+        SliceImpl<Category> categorySlice = new SliceImpl<>(categories, pageable, false);
+        when(categoryRepository.findAllBy(pageable)).thenReturn(categorySlice);
         when(categoryMapper.toDto(firstCategory)).thenReturn(firstDto);
         when(categoryMapper.toDto(secondCategory)).thenReturn(secondDto);
 
@@ -106,7 +104,7 @@ class CategoryServiceImplTest {
 
         assertEquals(expectedDtoList.size(), actualDtoList.size());
         assertEquals(expectedDtoList, actualDtoList);
-        verify(categoryRepository, times(1)).findAll(pageable);
+        verify(categoryRepository, times(1)).findAllBy(pageable);
         verify(categoryMapper, times(1)).toDto(firstCategory);
         verify(categoryMapper, times(1)).toDto(secondCategory);
         verifyNoMoreInteractions(categoryRepository, categoryMapper);
@@ -171,15 +169,13 @@ class CategoryServiceImplTest {
     void findAll_WhichNonPersistInDb_ReturnEmptyList() {
         List<Category> categories = List.of();
         Pageable pageable = PageRequest.of(0, 10);
-        PageImpl<Category> categoryPage = new PageImpl<>(
-                categories, pageable, 0
-        );
-        when(categoryRepository.findAll(pageable)).thenReturn(categoryPage);
+        SliceImpl<Category> categorySlice = new SliceImpl<>(categories, pageable, false);
+        when(categoryRepository.findAllBy(pageable)).thenReturn(categorySlice);
 
         List<CategoryDto> actualDtoList = categoryService.findAll(pageable);
 
         assertEquals(0, actualDtoList.size());
-        verify(categoryRepository, times(1)).findAll(pageable);
+        verify(categoryRepository, times(1)).findAllBy(pageable);
         verifyNoMoreInteractions(categoryRepository);
     }
 
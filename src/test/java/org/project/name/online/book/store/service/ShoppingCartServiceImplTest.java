@@ -3,15 +3,14 @@ package org.project.name.online.book.store.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
-import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -24,8 +23,8 @@ import org.project.name.online.book.store.dto.cart.item.CartItemDto;
 import org.project.name.online.book.store.dto.cart.item.CreateCartItemRequestDto;
 import org.project.name.online.book.store.dto.cart.item.UpdateCartItemRequestDto;
 import org.project.name.online.book.store.dto.shopping.cart.ShoppingCartDto;
+import org.project.name.online.book.store.dto.user.UserIdentity;
 import org.project.name.online.book.store.exception.EntityNotFoundException;
-import org.project.name.online.book.store.mapper.cart.item.CartItemMapper;
 import org.project.name.online.book.store.mapper.shopping.cart.ShoppingCartMapper;
 import org.project.name.online.book.store.model.Book;
 import org.project.name.online.book.store.model.CartItem;
@@ -33,10 +32,8 @@ import org.project.name.online.book.store.model.Category;
 import org.project.name.online.book.store.model.Role;
 import org.project.name.online.book.store.model.ShoppingCart;
 import org.project.name.online.book.store.model.User;
-import org.project.name.online.book.store.repository.book.BookRepository;
 import org.project.name.online.book.store.repository.cart.item.CartItemRepository;
-import org.project.name.online.book.store.repository.shopping.cart.ShoppingCartRepository;
-import org.project.name.online.book.store.repository.user.UserRepository;
+import org.project.name.online.book.store.service.shopping.cart.CartItemQuantityBuffer;
 import org.project.name.online.book.store.service.shopping.cart.impl.ShoppingCartServiceImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -52,20 +49,12 @@ class ShoppingCartServiceImplTest {
     private static CartItem cartItem;
     private static User userForTestingExceptions;
     private static ShoppingCart shoppingCartWithId;
-    private static Book firstBook;
-    private static Book secondBook;
-    @Mock
-    private UserRepository userRepository;
-    @Mock
-    private ShoppingCartRepository shoppingCartRepository;
     @Mock
     private CartItemRepository cartItemRepository;
     @Mock
-    private BookRepository bookRepository;
-    @Mock
-    private CartItemMapper cartItemMapper;
-    @Mock
     private ShoppingCartMapper shoppingCartMapper;
+    @Mock
+    private CartItemQuantityBuffer cartItemQuantityBuffer;
     @InjectMocks
     private ShoppingCartServiceImpl shoppingCartService;
 
@@ -110,83 +99,43 @@ class ShoppingCartServiceImplTest {
         shoppingCartWithId.setId(1L);
         shoppingCartWithId.setUser(user);
         shoppingCartWithId.setCartItems(Set.of(cartItem));
-        firstBook = new Book();
-        firstBook.setId(1L);
-        firstBook.setTitle("Title");
-        firstBook.setAuthor("Author");
-        firstBook.setIsbn("123456789");
-        firstBook.setPrice(BigDecimal.valueOf(99.99));
-        firstBook.setDescription("Descr.");
-        firstBook.setCoverImage("Image");
-        firstBook.setCategories(Set.of(category));
-        secondBook = new Book();
-        secondBook.setId(2L);
-        secondBook.setTitle("Title1");
-        secondBook.setAuthor("Author1");
-        secondBook.setIsbn("123456789(1)");
-        secondBook.setPrice(BigDecimal.valueOf(98.99));
-        secondBook.setDescription("Descr.1");
-        secondBook.setCoverImage("Image1");
-        secondBook.setCategories(Set.of(category));
     }
 
     @Test
     @DisplayName("Save a cart-item in user's shopping cart")
     void save_WithValidFields_ReturnsVoid() {
-        CreateCartItemRequestDto inputDto = createCartItemRequest();
-        CartItem cartItem = createCartItem();
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findByUserId(user.getId())).thenReturn(
-                Optional.of(shoppingCart)
-        );
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCart.getId())).thenReturn(
-                Collections.emptyList()
-        );
-        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
-        when(cartItemMapper.toEntity(shoppingCart, book, inputDto)).thenReturn(cartItem);
-        when(cartItemRepository.save(cartItem)).thenReturn(cartItem);
-
-        shoppingCartService.save(user.getEmail(), inputDto);
-
-        verify(userRepository, times(1)).findByEmail(user.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(shoppingCart.getId());
-        verify(bookRepository, times(1)).findById(book.getId());
-        verify(cartItemMapper, times(1)).toEntity(shoppingCart, book, inputDto);
-        verify(cartItemRepository, times(1)).save(cartItem);
-        verifyNoMoreInteractions(
-                userRepository,
-                shoppingCartRepository,
-                cartItemRepository,
-                bookRepository,
-                cartItemMapper
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCart.getId()
         );
+        CreateCartItemRequestDto inputDto = createCartItemRequest();
+        when(cartItemRepository.upsert(
+                shoppingCart.getId(), inputDto.getBookId(), inputDto.getQuantity())
+        ).thenReturn(1);
+
+        shoppingCartService.save(identity, inputDto);
+
+        verify(cartItemRepository, times(1)).upsert(
+                shoppingCart.getId(), inputDto.getBookId(), inputDto.getQuantity());
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
     @DisplayName("Update a quantity of the cart-item since it's already represented")
     void save_WithDuplicateCartItem_ReturnsVoid() {
-        ShoppingCart shoppingCart = createShoppingCart();
-        CartItem fitstCartItem = createFirstCartItem(shoppingCart);
-        CartItem secondCartItem = createSecondCartItem(shoppingCart);
-        shoppingCart.setCartItems(Set.of(fitstCartItem, secondCartItem));
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findByUserId(user.getId())).thenReturn(
-                Optional.of(shoppingCart)
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCart.getId()
         );
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCart.getId())).thenReturn(
-                List.of(fitstCartItem, secondCartItem)
-        );
-        when(cartItemRepository.save(secondCartItem)).thenReturn(secondCartItem);
-
         CreateCartItemRequestDto inputDto = createCartItemRequestWithQuantityTwo();
-        shoppingCartService.save(user.getEmail(), inputDto);
+        when(cartItemRepository.upsert(
+                shoppingCart.getId(), inputDto.getBookId(), inputDto.getQuantity())
+        ).thenReturn(2);
 
-        verify(userRepository, times(1)).findByEmail(user.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(shoppingCart.getId());
-        verify(cartItemRepository, times(1)).save(secondCartItem);
-        verifyNoMoreInteractions(userRepository, shoppingCartRepository, cartItemRepository);
+        shoppingCartService.save(identity, inputDto);
+
+        verify(cartItemRepository, times(1)).upsert(
+                shoppingCart.getId(), inputDto.getBookId(), inputDto.getQuantity());
+        verify(cartItemRepository, never()).findAllByShoppingCartId(shoppingCart.getId());
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
@@ -196,31 +145,22 @@ class ShoppingCartServiceImplTest {
         List<CartItemDto> cartItemsDto = List.of(cartItemDto);
         ShoppingCartDto expected = createExpectedShoppingCartDto(cartItemsDto);
         Pageable pageable = PageRequest.of(0, 10);
-        List<CartItem> cartItems = List.of(cartItem);
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findByUserId(user.getId())).thenReturn(
-                Optional.of(shoppingCartWithId)
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCartWithId.getId()
         );
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCartWithId.getId(), pageable))
-                .thenReturn(cartItems);
-        when(cartItemMapper.toDtoList(cartItems)).thenReturn(cartItemsDto);
-        when(shoppingCartMapper.toDto(shoppingCartWithId, cartItemsDto)).thenReturn(expected);
+        when(cartItemRepository.findAllDtoByShoppingCartId(shoppingCartWithId.getId(), pageable))
+                .thenReturn(cartItemsDto);
+        when(shoppingCartMapper.toDto(identity, cartItemsDto)).thenReturn(expected);
 
-        ShoppingCartDto actual = shoppingCartService.getCartByUserId(user.getEmail(), pageable);
+        ShoppingCartDto actual = shoppingCartService.getCartByUserId(identity, pageable);
 
         assertTrue(EqualsBuilder.reflectionEquals(expected, actual));
-        verify(userRepository, times(1)).findByEmail(user.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(
+        verify(cartItemRepository, times(1)).findAllDtoByShoppingCartId(
                 shoppingCartWithId.getId(), pageable
         );
-        verify(cartItemMapper, times(1)).toDtoList(cartItems);
-        verify(shoppingCartMapper, times(1)).toDto(shoppingCartWithId, cartItemsDto);
+        verify(shoppingCartMapper, times(1)).toDto(identity, cartItemsDto);
         verifyNoMoreInteractions(
-                userRepository,
-                shoppingCartRepository,
                 cartItemRepository,
-                cartItemMapper,
                 shoppingCartMapper
         );
     }
@@ -231,95 +171,76 @@ class ShoppingCartServiceImplTest {
         UpdateCartItemRequestDto inputDto = new UpdateCartItemRequestDto();
         inputDto.setQuantity(10);
         ShoppingCart shoppingCart = createShoppingCart();
-        CartItem firstCartItem = createFirstCartItem(shoppingCart);
-        CartItem secondCartItem = createSecondCartItem(shoppingCart);
-        shoppingCart.setCartItems(Set.of(firstCartItem, secondCartItem));
-        CartItem updatedCartItem = createUpdatedCartItem(secondBook, shoppingCart);
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findByUserId(user.getId())).thenReturn(
-                Optional.of(shoppingCart)
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCart.getId()
         );
-        List<CartItem> cartItems = List.of(firstCartItem, secondCartItem);
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCart.getId())).thenReturn(
-                cartItems
-        );
-        when(cartItemRepository.save(updatedCartItem)).thenReturn(updatedCartItem);
-
         Long cartItemId = 2L;
-        shoppingCartService.update(user.getEmail(), cartItemId, inputDto);
+        when(cartItemRepository.updateQuantityByIdAndShoppingCartId(
+                cartItemId, shoppingCart.getId(), inputDto.getQuantity())
+        ).thenReturn(1);
 
-        verify(userRepository, times(1)).findByEmail(user.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(shoppingCart.getId());
-        verify(cartItemRepository, times(1)).save(updatedCartItem);
-        verifyNoMoreInteractions(userRepository, shoppingCartRepository, cartItemRepository);
+        shoppingCartService.update(identity, cartItemId, inputDto);
+
+        verify(cartItemRepository, times(1)).updateQuantityByIdAndShoppingCartId(
+                cartItemId, shoppingCart.getId(), inputDto.getQuantity());
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
-    @DisplayName("Delete a cart-item by id")
-    void delete_WhichPersistInDb_ReturnsVoid() {
-        List<CartItem> cartItems = List.of(cartItem);
-        when(cartItemRepository.findById(cartItem.getId())).thenReturn(Optional.of(cartItem));
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findByUserId(user.getId())).thenReturn(
-                Optional.of(shoppingCartWithId)
-        );
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCartWithId.getId())).thenReturn(
-                cartItems
+    @DisplayName("Buffer a quantity update instead of writing it when write-behind accepts it")
+    void update_WithWriteBehindEnabled_DoesNotWriteQuantity() {
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCartWithId.getId()
         );
+        UpdateCartItemRequestDto inputDto = new UpdateCartItemRequestDto();
+        inputDto.setQuantity(10);
+        Long cartItemId = 2L;
+        when(cartItemQuantityBuffer.offer(
+                shoppingCartWithId.getId(), cartItemId, inputDto.getQuantity())
+        ).thenReturn(true);
 
-        shoppingCartService.delete(user.getEmail(), cartItem.getId());
+        shoppingCartService.update(identity, cartItemId, inputDto);
 
-        verify(cartItemRepository, times(1)).findById(cartItem.getId());
-        verify(userRepository, times(1)).findByEmail(user.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(shoppingCartWithId.getId());
-        verify(cartItemRepository, times(1)).delete(cartItem);
-        verifyNoMoreInteractions(cartItemRepository, userRepository, shoppingCartRepository);
+        verify(cartItemQuantityBuffer, times(1)).offer(
+                shoppingCartWithId.getId(), cartItemId, inputDto.getQuantity());
+        verifyNoMoreInteractions(cartItemRepository, cartItemQuantityBuffer);
     }
 
     @Test
-    @DisplayName("save. Throw EntityNotFoundException since the user doesn't exist")
-    void save_WithNonExistentUser_ThrowsEntityNotFoundException() {
-        CreateCartItemRequestDto inputDto = new CreateCartItemRequestDto();
-        String email = "doesn'texist@com";
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        EntityNotFoundException exception = assertThrows(
-                EntityNotFoundException.class,
-                () -> shoppingCartService.save(email, inputDto)
+    @DisplayName("Delete a cart-item by id")
+    void delete_WhichPersistInDb_ReturnsVoid() {
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCartWithId.getId()
         );
-        String expected = "There is no user by email: " + email;
-        String actual = exception.getMessage();
+        when(cartItemRepository.deleteByIdAndShoppingCartId(
+                cartItem.getId(), shoppingCartWithId.getId())
+        ).thenReturn(1);
 
-        assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(email);
-        verifyNoMoreInteractions(userRepository);
+        shoppingCartService.delete(identity, cartItem.getId());
+
+        verify(cartItemRepository, times(1)).deleteByIdAndShoppingCartId(
+                cartItem.getId(), shoppingCartWithId.getId());
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
     @DisplayName("save. Throw EntityNotFoundException since the shopping cart doesn't exist")
     void save_WithNonExistentShoppingCart_ThrowsEntityNotFoundException() {
-        when(userRepository.findByEmail(userForTestingExceptions.getEmail())).thenReturn(
-                Optional.of(userForTestingExceptions)
-        );
-        when(shoppingCartRepository.findByUserId(userForTestingExceptions.getId())).thenReturn(
-                Optional.empty()
+        UserIdentity identity = new UserIdentity(
+                userForTestingExceptions.getId(), userForTestingExceptions.getEmail(), null
         );
 
         CreateCartItemRequestDto inputDto = new CreateCartItemRequestDto();
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> shoppingCartService.save(userForTestingExceptions.getEmail(), inputDto)
+                () -> shoppingCartService.save(identity, inputDto)
         );
         String expected = "There is no shopping cart by user id: "
                 + userForTestingExceptions.getId();
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(userForTestingExceptions.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(userForTestingExceptions.getId());
-        verifyNoMoreInteractions(userRepository, shoppingCartRepository);
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
@@ -327,56 +248,26 @@ class ShoppingCartServiceImplTest {
     void save_WithNonExistentBook_ThrowsEntityNotFoundException() {
         CreateCartItemRequestDto inputDto = new CreateCartItemRequestDto();
         inputDto.setBookId(100L);
+        inputDto.setQuantity(1);
         ShoppingCart shoppingCart = new ShoppingCart();
         shoppingCart.setId(1L);
-        when(userRepository.findByEmail(userForTestingExceptions.getEmail())).thenReturn(
-                Optional.of(userForTestingExceptions)
-        );
-        when(shoppingCartRepository.findByUserId(userForTestingExceptions.getId())).thenReturn(
-                Optional.of(shoppingCart)
-        );
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCart.getId())).thenReturn(
-                Collections.emptyList()
-        );
-        when(bookRepository.findById(inputDto.getBookId())).thenReturn(Optional.empty());
+        UserIdentity identity = new UserIdentity(userForTestingExceptions.getId(),
+                userForTestingExceptions.getEmail(), shoppingCart.getId());
+        when(cartItemRepository.upsert(
+                shoppingCart.getId(), inputDto.getBookId(), inputDto.getQuantity())
+        ).thenReturn(0);
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> shoppingCartService.save(userForTestingExceptions.getEmail(), inputDto)
+                () -> shoppingCartService.save(identity, inputDto)
         );
         String expected = "There is no book by id: " + inputDto.getBookId();
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(userForTestingExceptions.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(userForTestingExceptions.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(shoppingCart.getId());
-        verify(bookRepository, times(1)).findById(inputDto.getBookId());
-        verifyNoMoreInteractions(
-                bookRepository,
-                userRepository,
-                shoppingCartRepository,
-                cartItemRepository
-        );
-    }
-
-    @Test
-    @DisplayName("getCartByUserId. Throw EntityNotFoundException since the user doesn't exist")
-    void getCartByUserId_WithNonExistentUser_ThrowsEntityNotFoundException() {
-        String email = "doesn'texist@com";
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        Pageable pageable = PageRequest.of(0, 10);
-        EntityNotFoundException exception = assertThrows(
-                EntityNotFoundException.class,
-                () -> shoppingCartService.getCartByUserId(email, pageable)
-        );
-        String expected = "There is no user by email: " + email;
-        String actual = exception.getMessage();
-
-        assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(email);
-        verifyNoMoreInteractions(userRepository);
+        verify(cartItemRepository, times(1)).upsert(
+                shoppingCart.getId(), inputDto.getBookId(), inputDto.getQuantity());
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
@@ -384,18 +275,15 @@ class ShoppingCartServiceImplTest {
             "getCartByUserId. Throw EntityNotFoundException since the shopping cart doesn't exist"
     )
     void getCartByUserId_WithNonExistentShoppingCart_ThrowsEntityNotFoundException() {
-        when(userRepository.findByEmail(userForTestingExceptions.getEmail())).thenReturn(
-                Optional.of(userForTestingExceptions)
-        );
-        when(shoppingCartRepository.findByUserId(userForTestingExceptions.getId())).thenReturn(
-                Optional.empty()
+        UserIdentity identity = new UserIdentity(
+                userForTestingExceptions.getId(), userForTestingExceptions.getEmail(), null
         );
 
         Pageable pageable = PageRequest.of(0, 10);
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
                 () -> shoppingCartService.getCartByUserId(
-                        userForTestingExceptions.getEmail(), pageable
+                        identity, pageable
                 )
         );
         String expected = "There is no shopping cart by user id: "
@@ -403,57 +291,28 @@ class ShoppingCartServiceImplTest {
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(userForTestingExceptions.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(userForTestingExceptions.getId());
-        verifyNoMoreInteractions(userRepository, shoppingCartRepository);
-    }
-
-    @Test
-    @DisplayName("update. Throw EntityNotFoundException since the user doesn't exist")
-    void update_WithNonExistentUser_ThrowsEntityNotFoundException() {
-        String email = "doesn'texist@com";
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        Long cartItemId = 1L;
-        UpdateCartItemRequestDto inputDto = new UpdateCartItemRequestDto();
-        EntityNotFoundException exception = assertThrows(
-                EntityNotFoundException.class,
-                () -> shoppingCartService.update(email, cartItemId, inputDto)
-        );
-        String expected = "There is no user by email: " + email;
-        String actual = exception.getMessage();
-
-        assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(email);
-        verifyNoMoreInteractions(userRepository);
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
     @DisplayName("update. Throw EntityNotFoundException since the shopping cart doesn't exist")
     void update_WithNonExistentShoppingCart_ThrowsEntityNotFoundException() {
-        when(userRepository.findByEmail(userForTestingExceptions.getEmail())).thenReturn(
-                Optional.of(userForTestingExceptions)
-        );
-        when(shoppingCartRepository.findByUserId(userForTestingExceptions.getId())).thenReturn(
-                Optional.empty()
+        UserIdentity identity = new UserIdentity(
+                userForTestingExceptions.getId(), userForTestingExceptions.getEmail(), null
         );
 
         Long cartItemId = 1L;
         UpdateCartItemRequestDto inputDto = new UpdateCartItemRequestDto();
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> shoppingCartService.update(
-                        userForTestingExceptions.getEmail(), cartItemId, inputDto
-                )
+                () -> shoppingCartService.update(identity, cartItemId, inputDto)
         );
         String expected = "There is no shopping cart by user id: "
                 + userForTestingExceptions.getId();
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(userForTestingExceptions.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(userForTestingExceptions.getId());
-        verifyNoMoreInteractions(userRepository, shoppingCartRepository);
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
@@ -461,99 +320,69 @@ class ShoppingCartServiceImplTest {
     void update_WithNonExistentCartItem_ThrowsEntityNotFoundException() {
         ShoppingCart shoppingCart = new ShoppingCart();
         shoppingCart.setId(1L);
-        when(userRepository.findByEmail(userForTestingExceptions.getEmail())).thenReturn(
-                Optional.of(userForTestingExceptions)
-        );
-        when(shoppingCartRepository.findByUserId(userForTestingExceptions.getId())).thenReturn(
-                Optional.of(shoppingCart)
-        );
-        when(cartItemRepository.findAllByShoppingCartId(shoppingCart.getId())).thenReturn(
-                Collections.emptyList()
-        );
-
         Long cartItemId = 100L;
         UpdateCartItemRequestDto inputDto = new UpdateCartItemRequestDto();
+        inputDto.setQuantity(10);
+        UserIdentity identity = new UserIdentity(userForTestingExceptions.getId(),
+                userForTestingExceptions.getEmail(), shoppingCart.getId());
+        when(cartItemRepository.updateQuantityByIdAndShoppingCartId(
+                cartItemId, shoppingCart.getId(), inputDto.getQuantity())
+        ).thenReturn(0);
+
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> shoppingCartService.update(
-                        userForTestingExceptions.getEmail(), cartItemId, inputDto
-                )
+                () -> shoppingCartService.update(identity, cartItemId, inputDto)
         );
         String expected = "There is no cart-item by id: " + cartItemId;
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(userRepository, times(1)).findByEmail(userForTestingExceptions.getEmail());
-        verify(shoppingCartRepository, times(1)).findByUserId(userForTestingExceptions.getId());
-        verify(cartItemRepository, times(1)).findAllByShoppingCartId(shoppingCart.getId());
-        verifyNoMoreInteractions(userRepository, shoppingCartRepository, cartItemRepository);
+        verify(cartItemRepository, times(1)).updateQuantityByIdAndShoppingCartId(
+                cartItemId, shoppingCart.getId(), inputDto.getQuantity());
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     @Test
-    @DisplayName("delete. Throw EntityNotFoundException since the cart-item doesn't exist")
+    @DisplayName("delete. Throw EntityNotFoundException since the cart-item isn't in the cart")
     void delete_WithNonExistentCartItem_ThrowsEntityNotFoundException() {
+        UserIdentity identity = new UserIdentity(
+                user.getId(), user.getEmail(), shoppingCartWithId.getId()
+        );
         Long nonExistentCartItemId = 100L;
-        when(cartItemRepository.findById(nonExistentCartItemId)).thenReturn(Optional.empty());
+        when(cartItemRepository.deleteByIdAndShoppingCartId(
+                nonExistentCartItemId, shoppingCartWithId.getId())
+        ).thenReturn(0);
 
-        String email = "email@com";
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> shoppingCartService.delete(email, nonExistentCartItemId)
+                () -> shoppingCartService.delete(identity, nonExistentCartItemId)
         );
         String expected = "There is no cart-item by id: " + nonExistentCartItemId;
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(cartItemRepository, times(1)).findById(nonExistentCartItemId);
+        verify(cartItemRepository, times(1)).deleteByIdAndShoppingCartId(
+                nonExistentCartItemId, shoppingCartWithId.getId());
         verifyNoMoreInteractions(cartItemRepository);
     }
 
-    @Test
-    @DisplayName("delete. Throw EntityNotFoundException since the user doesn't exist")
-    void delete_WithNonExistentUser_ThrowsEntityNotFoundException() {
-        CartItem cartItem = new CartItem();
-        cartItem.setId(1L);
-        String email = "doesn'texist@com";
-        when(cartItemRepository.findById(cartItem.getId())).thenReturn(Optional.of(cartItem));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        EntityNotFoundException exception = assertThrows(
-                EntityNotFoundException.class,
-                () -> shoppingCartService.delete(email, cartItem.getId())
-        );
-        String expected = "There is no user by email: " + email;
-        String actual = exception.getMessage();
-
-        assertEquals(expected, actual);
-        verify(cartItemRepository, times(1)).findById(cartItem.getId());
-        verify(userRepository, times(1)).findByEmail(email);
-        verifyNoMoreInteractions(cartItemRepository, userRepository);
-    }
-
     @Test
     @DisplayName("delete. Throw EntityNotFoundException since the shopping cart doesn't exist")
     void delete_WithNonExistentShoppingCart_ThrowsEntityNotFoundException() {
-        CartItem cartItem = new CartItem();
-        cartItem.setId(1L);
         User user = new User();
         user.setId(1L);
         String email = "doesn'texist@com";
-        when(cartItemRepository.findById(cartItem.getId())).thenReturn(Optional.of(cartItem));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(shoppingCartRepository.findByUserId(user.getId())).thenReturn(Optional.empty());
+        UserIdentity identity = new UserIdentity(user.getId(), email, null);
 
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> shoppingCartService.delete(email, cartItem.getId())
+                () -> shoppingCartService.delete(identity, 1L)
         );
         String expected = "There is no shopping cart by user id: " + user.getId();
         String actual = exception.getMessage();
 
         assertEquals(expected, actual);
-        verify(cartItemRepository, times(1)).findById(cartItem.getId());
-        verify(userRepository, times(1)).findByEmail(email);
-        verify(shoppingCartRepository, times(1)).findByUserId(user.getId());
-        verifyNoMoreInteractions(cartItemRepository, userRepository, shoppingCartRepository);
+        verifyNoMoreInteractions(cartItemRepository);
     }
 
     private CreateCartItemRequestDto createCartItemRequest() {
@@ -563,14 +392,6 @@ class ShoppingCartServiceImplTest {
         return inputDto;
     }
 
-    private CartItem createCartItem() {
-        CartItem cartItem = new CartItem();
-        cartItem.setShoppingCart(shoppingCart);
-        cartItem.setBook(book);
-        cartItem.setQuantity(1);
-        return cartItem;
-    }
-
     private CreateCartItemRequestDto createCartItemRequestWithQuantityTwo() {
         CreateCartItemRequestDto inputDto = new CreateCartItemRequestDto();
         inputDto.setBookId(2L);
@@ -610,31 +431,4 @@ class ShoppingCartServiceImplTest {
         expected.setCartItems(cartItemsDto);
         return expected;
     }
-
-    private CartItem createFirstCartItem(ShoppingCart shoppingCart) {
-        CartItem firstCartItem = new CartItem();
-        firstCartItem.setId(1L);
-        firstCartItem.setBook(firstBook);
-        firstCartItem.setQuantity(1);
-        firstCartItem.setShoppingCart(shoppingCart);
-        return firstCartItem;
-    }
-
-    private CartItem createSecondCartItem(ShoppingCart shoppingCart) {
-        CartItem secondCartItem = new CartItem();
-        secondCartItem.setId(2L);
-        secondCartItem.setBook(secondBook);
-        secondCartItem.setQuantity(1);
-        secondCartItem.setShoppingCart(shoppingCart);
-        return secondCartItem;
-    }
-
-    private CartItem createUpdatedCartItem(Book secondBook, ShoppingCart shoppingCart) {
-        CartItem updatedCartItem = new CartItem();
-        updatedCartItem.setId(2L);
-        updatedCartItem.setBook(secondBook);
-        updatedCartItem.setQuantity(10);
-        updatedCartItem.setShoppingCart(shoppingCart);
-        return updatedCartItem;
-    }
 }
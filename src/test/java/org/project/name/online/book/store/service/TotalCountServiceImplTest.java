@@ -0,0 +1,58 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.repository.book.BookRepository;
+import org.project.name.online.book.store.repository.category.CategoryRepository;
+import org.project.name.online.book.store.service.count.impl.TotalCountServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class TotalCountServiceImplTest {
+    @Mock
+    private BookRepository bookRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @InjectMocks
+    private TotalCountServiceImpl totalCountService;
+
+    @Test
+    @DisplayName("getBooksCount and getCategoriesCount. Return empty before the first refresh")
+    void getCounts_BeforeFirstRefresh_ReturnsEmpty() {
+        assertTrue(totalCountService.getBooksCount().isEmpty());
+        assertTrue(totalCountService.getCategoriesCount().isEmpty());
+        verifyNoInteractions(bookRepository, categoryRepository);
+    }
+
+    @Test
+    @DisplayName("refresh. Replace the counts with the latest repository totals")
+    void refresh_ChangedTotals_ReturnsLatestCounts() {
+        when(bookRepository.count()).thenReturn(10L, 11L);
+        when(categoryRepository.count()).thenReturn(3L, 2L);
+
+        totalCountService.refresh();
+
+        assertEquals(Optional.of(10L), totalCountService.getBooksCount());
+        assertEquals(Optional.of(3L), totalCountService.getCategoriesCount());
+
+        totalCountService.refresh();
+
+        assertEquals(Optional.of(11L), totalCountService.getBooksCount());
+        assertEquals(Optional.of(2L), totalCountService.getCategoriesCount());
+        verify(bookRepository, times(2)).count();
+        verify(categoryRepository, times(2)).count();
+        verifyNoMoreInteractions(bookRepository, categoryRepository);
+    }
+}
@@ -0,0 +1,80 @@
+package org.project.name.online.book.store.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.name.online.book.store.dto.user.UserIdentity;
+import org.project.name.online.book.store.exception.EntityNotFoundException;
+import org.project.name.online.book.store.model.Role;
+import org.project.name.online.book.store.repository.user.UserRepository;
+import org.project.name.online.book.store.service.user.impl.UserIdentityServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdentityServiceImplTest {
+    private static final String EMAIL = "user@gmail.com";
+    @Mock
+    private UserRepository userRepository;
+    @InjectMocks
+    private UserIdentityServiceImpl userIdentityService;
+
+    @Test
+    @DisplayName("Resolve user and shopping cart ids and user roles by email")
+    void getIdentity_WithExistingUser_ReturnsUserIdentity() {
+        List<Role.RoleName> roles = List.of(Role.RoleName.ROLE_USER);
+        UserIdentity expected = new UserIdentity(1L, EMAIL, 2L, roles);
+        when(userRepository.findIdentityByEmail(EMAIL))
+                .thenReturn(Optional.of(new UserIdentity(1L, EMAIL, 2L)));
+        when(userRepository.findRoleNamesById(1L)).thenReturn(roles);
+
+        UserIdentity actual = userIdentityService.getIdentity(EMAIL);
+
+        assertEquals(expected, actual);
+        assertEquals(2L, actual.requireShoppingCartId());
+        assertEquals(EMAIL, actual.getName());
+        verify(userRepository, times(1)).findIdentityByEmail(EMAIL);
+        verify(userRepository, times(1)).findRoleNamesById(1L);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("getIdentity. Throw EntityNotFoundException since the user doesn't exist")
+    void getIdentity_WithNonExistentUser_ThrowsEntityNotFoundException() {
+        when(userRepository.findIdentityByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> userIdentityService.getIdentity(EMAIL)
+        );
+        String expected = "There is no user by email: " + EMAIL;
+        String actual = exception.getMessage();
+
+        assertEquals(expected, actual);
+        verify(userRepository, times(1)).findIdentityByEmail(EMAIL);
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("requireShoppingCartId. Throw EntityNotFoundException since there is no cart")
+    void requireShoppingCartId_WithoutShoppingCart_ThrowsEntityNotFoundException() {
+        UserIdentity identity = new UserIdentity(1L, EMAIL, null);
+
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                identity::requireShoppingCartId
+        );
+
+        assertEquals("There is no shopping cart by user id: 1", exception.getMessage());
+    }
+}
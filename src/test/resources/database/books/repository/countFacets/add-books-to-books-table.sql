@@ -0,0 +1,8 @@
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (1, 'Title', 'Author', '123456789', 5.50, 'Descr.', 'Image');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (2, 'Title2', 'Author', '123456789(2)', 30.00, 'Descr.2', 'Image2');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (3, 'Title3', 'Author', '123456789(3)', 49.99, 'Descr.3', 'Image3');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (4, 'Title4', 'Author', '123456789(4)', 150.00, 'Descr.4', 'Image4');
\ No newline at end of file
@@ -0,0 +1 @@
+DELETE FROM books WHERE id BETWEEN 1 AND 4;
\ No newline at end of file
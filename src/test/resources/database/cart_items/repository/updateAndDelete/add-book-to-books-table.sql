@@ -0,0 +1,2 @@
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (1, 'Title', 'Author', '123456789', 99.99, 'Descr.', 'Image');
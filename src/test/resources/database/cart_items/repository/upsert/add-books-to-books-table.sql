@@ -0,0 +1,4 @@
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (1, 'Title', 'Author', '123456789', 99.99, 'Descr.', 'Image');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (2, 'Title2', 'Author2', '123456789(2)', 98.99, 'Descr.2', 'Image2');
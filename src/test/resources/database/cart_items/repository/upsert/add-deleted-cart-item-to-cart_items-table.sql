@@ -0,0 +1,2 @@
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity, is_deleted)
+VALUES (1, 1, 2, 5, true);
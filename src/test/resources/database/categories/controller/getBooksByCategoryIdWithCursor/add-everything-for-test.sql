@@ -0,0 +1,17 @@
+DELETE FROM books;
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (1, 'Title1', 'Author1', '123456789(1)', 98.99, 'Descr.1', 'Image1');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (2, 'Title2', 'Author2', '123456789(2)', 97.99, 'Descr.2', 'Image2');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (3, 'Title3', 'Author3', '123456789(3)', 98.99, 'Descr.3', 'Image3');
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+VALUES (4, 'Title4', 'Author4', '123456789(4)', 99.99, 'Descr.4', 'Image4');
+INSERT INTO books_categories (book_id, category_id)
+VALUES (1, 1);
+INSERT INTO books_categories (book_id, category_id)
+VALUES (2, 1);
+INSERT INTO books_categories (book_id, category_id)
+VALUES (3, 1);
+INSERT INTO books_categories (book_id, category_id)
+VALUES (4, 2);
@@ -0,0 +1,2 @@
+DELETE FROM books;
+DELETE FROM books_categories;
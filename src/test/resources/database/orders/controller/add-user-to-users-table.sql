@@ -0,0 +1,4 @@
+INSERT INTO users (id, email, password, first_name, last_name, shipping_address)
+VALUES (1, 'email@com', '1234', 'name', 'last', 'address');
+INSERT INTO users_roles (user_id, role_id) VALUES (1, 1);
+INSERT INTO shopping_carts (id, user_id) VALUES (1, 1);
@@ -0,0 +1,6 @@
+INSERT INTO orders (id, user_id, status, total, order_date, shipping_address)
+VALUES (1, 1, 'PENDING', 10.00, '2024-01-01 10:00:00', 'address');
+INSERT INTO orders (id, user_id, status, total, order_date, shipping_address)
+VALUES (2, 1, 'PENDING', 20.00, '2024-01-02 10:00:00', 'address');
+INSERT INTO orders (id, user_id, status, total, order_date, shipping_address)
+VALUES (3, 1, 'PENDING', 30.00, '2024-01-01 10:00:00', 'address');
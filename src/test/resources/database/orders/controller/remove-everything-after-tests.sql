@@ -0,0 +1,4 @@
+DELETE FROM orders;
+DELETE FROM shopping_carts;
+DELETE FROM users;
+DELETE FROM users_roles;
@@ -0,0 +1,28 @@
+INSERT INTO categories (id, name, description)
+WITH RECURSIVE seq (n) AS (SELECT 1001 UNION ALL SELECT n + 1 FROM seq WHERE n < 1020)
+SELECT n, CONCAT('Category', n), CONCAT('Descr.', n) FROM seq;
+INSERT INTO books (id, title, author, isbn, price, description, cover_image)
+WITH RECURSIVE seq (n) AS (SELECT 1001 UNION ALL SELECT n + 1 FROM seq WHERE n < 1500)
+SELECT n, CONCAT('Title', n), CONCAT('Author', n % 50), CONCAT('isbn-', n), n % 200 + 0.99,
+       CONCAT('Descr.', n), CONCAT('Image', n) FROM seq;
+INSERT INTO books_categories (book_id, category_id)
+SELECT id, 1001 + id % 20 FROM books WHERE id BETWEEN 1001 AND 1500;
+INSERT INTO users (id, email, password, first_name, last_name, shipping_address)
+WITH RECURSIVE seq (n) AS (SELECT 1001 UNION ALL SELECT n + 1 FROM seq WHERE n < 1100)
+SELECT n, CONCAT('user', n, '@gmail.com'), 'password', 'First', 'Last', 'Address' FROM seq;
+INSERT INTO users_roles (user_id, role_id)
+SELECT u.id, r.id FROM users u JOIN roles r ON r.role_name = 'ROLE_USER'
+WHERE u.id BETWEEN 1001 AND 1100;
+INSERT INTO shopping_carts (id, user_id)
+SELECT id, id FROM users WHERE id BETWEEN 1001 AND 1100;
+INSERT INTO cart_items (id, shopping_cart_id, book_id, quantity)
+SELECT id, 1001 + id % 100, id, 1 FROM books WHERE id BETWEEN 1001 AND 1500;
+INSERT INTO orders (id, user_id, status, total, order_date, shipping_address)
+WITH RECURSIVE seq (n) AS (SELECT 1001 UNION ALL SELECT n + 1 FROM seq WHERE n < 1300)
+SELECT n, 1001 + n % 100, 'PENDING', 10.99, TIMESTAMP('2024-01-01') + INTERVAL n MINUTE,
+       'Address' FROM seq;
+INSERT INTO order_items (id, order_id, book_id, quantity, price)
+WITH RECURSIVE seq (n) AS (SELECT 1001 UNION ALL SELECT n + 1 FROM seq WHERE n < 1900)
+SELECT n, 1001 + n % 300, 1001 + n % 500, 1, 10.99 FROM seq;
+ANALYZE TABLE books, categories, books_categories, users, users_roles, roles, shopping_carts,
+    cart_items, orders, order_items;
@@ -0,0 +1,9 @@
+DELETE FROM order_items WHERE id BETWEEN 1001 AND 1900;
+DELETE FROM orders WHERE id BETWEEN 1001 AND 1300;
+DELETE FROM cart_items WHERE shopping_cart_id BETWEEN 1001 AND 1100;
+DELETE FROM shopping_carts WHERE id BETWEEN 1001 AND 1100;
+DELETE FROM users_roles WHERE user_id BETWEEN 1001 AND 1100;
+DELETE FROM users WHERE id BETWEEN 1001 AND 1100;
+DELETE FROM books_categories WHERE book_id BETWEEN 1001 AND 1500;
+DELETE FROM books WHERE id BETWEEN 1001 AND 1500;
+DELETE FROM categories WHERE id BETWEEN 1001 AND 1020;